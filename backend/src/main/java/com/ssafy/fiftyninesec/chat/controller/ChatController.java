@@ -1,19 +1,24 @@
 package com.ssafy.fiftyninesec.chat.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.fiftyninesec.chat.dto.ChatMessageDto;
 import com.ssafy.fiftyninesec.chat.service.ChatService;
+import com.ssafy.fiftyninesec.global.util.BroadcastUtil;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.*;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
 import java.time.LocalDateTime;
 
+@Slf4j
 @Controller
 @RequiredArgsConstructor
 public class ChatController {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final BroadcastUtil broadcastUtil;
+    private final ObjectMapper objectMapper;
     private final ChatService chatService;
 
     @MessageMapping("/sendMessage/{eventId}")
@@ -26,7 +31,12 @@ public class ChatController {
                 .sentAt(LocalDateTime.now())
                 .build();
 
-        messagingTemplate.convertAndSend("/chat/sub/room/" + eventId, updatedMessage);
+        // 한 번만 직렬화해 Redis 중계 채널로 발행 (모든 노드의 구독자에게 전달)
+        try {
+            broadcastUtil.sendPreSerialized("/chat/sub/room/" + eventId, objectMapper.writeValueAsBytes(updatedMessage));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize chat message for room {} - Error: {}", eventId, e.getMessage());
+        }
     }
 
     // 채팅방 입장
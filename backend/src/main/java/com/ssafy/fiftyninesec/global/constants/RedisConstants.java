@@ -2,11 +2,36 @@ package com.ssafy.fiftyninesec.global.constants;
 
 public class RedisConstants {
     public static final String RANKING_KEY_PREFIX = "event:ranking:";
-    public static final String PARTICIPATION_LOCK_PREFIX = "event:lock:";
-    public static final String PARTICIPATION_QUEUE_PREFIX = "event:queue:";
-    public static final String LAST_PROCESSED_ID_PREFIX = "event:last_processed:";
+    public static final String PARTICIPANTS_KEY_PREFIX = "event:participants:";
+    public static final String PARTICIPANTS_SEEDED_KEY_PREFIX = "event:participants-seeded:";
+    public static final String PARTICIPATION_PENDING_KEY = "event:persist:pending";
+    // 무결성 오류로 DB 에 반영할 수 없는 참여 (수동 확인용)
+    public static final String PARTICIPATION_FAILED_KEY = "event:persist:failed";
 
-    // Lock 관련 상수
-    public static final long LOCK_WAIT_TIME = 1000L;
-    public static final long LOCK_LEASE_TIME = 500L;
+    // 참여 결과 스트림 관련 상수
+    public static final String PARTICIPATION_STREAM_PREFIX = "event:stream:";
+    public static final String PARTICIPATION_STREAM_FIELD = "payload";
+    public static final String PARTICIPATION_CONSUMER_GROUP = "participation-broadcast";
+    public static final String ACTIVE_ROOMS_KEY = "event:active-rooms";
+
+    // 인기 방 순위 (ZSET: roomId -> 잠금해제 수)
+    public static final String POPULAR_ROOMS_KEY = "event:popular";
+
+    // 방 상세 2차 캐시 (값 = EventRoomResponseDto JSON), 로딩 락, 로컬 캐시 무효화 채널
+    public static final String ROOM_DETAIL_KEY_PREFIX = "event:room:detail:";
+    public static final String ROOM_DETAIL_LOCK_SUFFIX = ":loading";
+    // 방 상세 캐시 버전 (무효화마다 INCR, 로딩 중 무효화된 값은 Redis 에 쓰지 않도록 비교)
+    public static final String ROOM_DETAIL_VERSION_SUFFIX = ":version";
+    public static final String ROOM_DETAIL_EVICT_CHANNEL = "event:room:detail:evict";
+
+    // 노드 간 WebSocket 중계 채널 (채널 = 접두사 + STOMP destination)
+    public static final String BROADCAST_RELAY_CHANNEL_PREFIX = "ws:relay:";
+
+    // 방 정보 변경 알림 채널 (노드 로컬 캐시 무효화용, 메시지 = roomId)
+    public static final String ROOM_CHANGED_CHANNEL = "event:room:changed";
+
+    // 검색 인덱스 변경 알림 채널 (노드 로컬 자동완성/검색 캐시 무효화용)
+    public static final String SEARCH_INDEX_CHANGED_CHANNEL = "search:index:changed";
+    // 검색 인덱스 버전 (ES 반영마다 INCR, 검색 결과 캐시 항목의 태그)
+    public static final String SEARCH_INDEX_VERSION_KEY = "search:index:version";
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.ssafy.fiftyninesec.global.util;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.ssafy.fiftyninesec.global.constants.RedisConstants.BROADCAST_RELAY_CHANNEL_PREFIX;
+
+// 다른 노드(또는 자기 자신)가 발행한 중계 메시지를 받아 이 노드의 구독 세션에 전송
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BroadcastRelayListener implements MessageListener {
+
+    private final RedisMessageListenerContainer listenerContainer;
+    private final BroadcastUtil broadcastUtil;
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new PatternTopic(BROADCAST_RELAY_CHANNEL_PREFIX + "*"));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String destination = channel.substring(BROADCAST_RELAY_CHANNEL_PREFIX.length());
+
+        try {
+            broadcastUtil.sendLocal(destination, message.getBody());
+        } catch (Exception e) {
+            log.error("Failed to relay message to {} - Error: {}", destination, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.ssafy.fiftyninesec.global.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.ssafy.fiftyninesec.global.constants.RedisConstants.BROADCAST_RELAY_CHANNEL_PREFIX;
+
+// 미리 직렬화된 바이트를 그대로 브로커에 넘기는 전송 유틸
+// 메시지 컨버터를 거치지 않으므로 재직렬화가 없고, 심플 브로커는 모든 구독 세션에 같은 byte[] 를 공유한다
+// 중계가 켜져 있으면 Redis 채널에 한 번 발행하고, 각 노드가 BroadcastRelayListener 로 자기 세션에만 전송한다
+@Component
+@RequiredArgsConstructor
+public class BroadcastUtil {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${websocket.relay.enabled:true}")
+    private boolean relayEnabled;
+
+    // payload 는 전송 이후 수정하지 않아야 한다 (세션 간에 공유됨)
+    public void sendPreSerialized(String destination, byte[] payload) {
+        if (relayEnabled) {
+            stringRedisTemplate.convertAndSend(BROADCAST_RELAY_CHANNEL_PREFIX + destination,
+                    new String(payload, StandardCharsets.UTF_8));
+            return;
+        }
+        sendLocal(destination, payload);
+    }
+
+    // 이 노드에 연결된 세션에만 전송
+    public void sendLocal(String destination, byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        Message<byte[]> message = MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+
+        messagingTemplate.send(destination, message);
+    }
+}
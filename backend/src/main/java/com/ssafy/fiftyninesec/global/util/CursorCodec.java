@@ -0,0 +1,39 @@
+package com.ssafy.fiftyninesec.global.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.fiftyninesec.global.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Base64;
+
+import static com.ssafy.fiftyninesec.global.exception.ErrorCode.INVALID_REQUEST;
+
+// 커서 페이지네이션용 불투명 토큰: 마지막 항목의 정렬 키를 JSON 으로 만들어 URL-safe Base64 로 감싼다
+// 클라이언트는 내용을 해석하지 않고 받은 nextCursor 를 그대로 돌려보낸다
+@Component
+@RequiredArgsConstructor
+public class CursorCodec {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ObjectMapper objectMapper;
+
+    public String encode(Object position) {
+        try {
+            return ENCODER.encodeToString(objectMapper.writeValueAsBytes(position));
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to encode cursor", e);
+        }
+    }
+
+    // 변조되었거나 형식이 맞지 않는 커서는 잘못된 요청으로 처리
+    public <T> T decode(String cursor, Class<T> type) {
+        try {
+            return objectMapper.readValue(DECODER.decode(cursor), type);
+        } catch (Exception e) {
+            throw new CustomException(INVALID_REQUEST);
+        }
+    }
+}
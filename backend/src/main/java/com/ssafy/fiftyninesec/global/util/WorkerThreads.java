@@ -0,0 +1,36 @@
+package com.ssafy.fiftyninesec.global.util;
+
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadFactory;
+
+// 직접 띄우는 백그라운드 작업 스레드를 spring.threads.virtual.enabled 설정에 맞춰 생성
+// (Tomcat, @Scheduled, @Async 는 Spring Boot 가 같은 설정으로 전환한다)
+@Component
+public class WorkerThreads {
+
+    private final boolean virtual;
+
+    public WorkerThreads(Environment environment) {
+        this.virtual = Threading.VIRTUAL.isActive(environment);
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    public ThreadFactory factory(String name) {
+        if (virtual) {
+            return Thread.ofVirtual().name(name).factory();
+        }
+        return Thread.ofPlatform().name(name).daemon(true).factory();
+    }
+
+    public Thread start(String name, Runnable task) {
+        Thread thread = factory(name).newThread(task);
+        thread.start();
+        return thread;
+    }
+}
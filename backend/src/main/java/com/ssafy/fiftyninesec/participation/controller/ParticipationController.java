@@ -2,6 +2,7 @@ package com.ssafy.fiftyninesec.participation.controller;
 
 import com.ssafy.fiftyninesec.participation.dto.ParticipationRequestDto;
 import com.ssafy.fiftyninesec.participation.dto.ParticipationResponseDto;
+import com.ssafy.fiftyninesec.participation.dto.ParticipationSnapshotDto;
 import com.ssafy.fiftyninesec.participation.entity.Participation;
 import com.ssafy.fiftyninesec.participation.service.ParticipationService;
 import jakarta.validation.Valid;
@@ -26,6 +27,15 @@ public class ParticipationController {
         return ResponseEntity.ok(participations);
     }
 
+    // 실시간 결과 구독 전 따라잡기용 스냅샷 API (afterRanking 이후 결과만 반환)
+    @GetMapping("/{roomId}/snapshot")
+    public ResponseEntity<ParticipationSnapshotDto> getParticipationSnapshot(
+            @PathVariable Long roomId,
+            @RequestParam(defaultValue = "0") int afterRanking,
+            @RequestParam(defaultValue = "1000") int size) {
+        return ResponseEntity.ok(participationService.getParticipationSnapshot(roomId, afterRanking, size));
+    }
+
     // 새로운 참여자 생성 API
     @PostMapping
     public ResponseEntity<ParticipationResponseDto> createParticipation(@Valid @RequestBody ParticipationRequestDto request) {
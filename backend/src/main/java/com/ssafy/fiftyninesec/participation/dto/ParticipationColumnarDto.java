@@ -0,0 +1,18 @@
+package com.ssafy.fiftyninesec.participation.dto;
+
+import lombok.*;
+
+// 참여 결과 배치의 컬럼형 표현 (필드 이름을 행마다 반복하지 않아 프레임 크기가 작다)
+// 같은 인덱스의 값들이 한 명의 참여 결과를 이룬다
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ParticipationColumnarDto {
+    private Long eventId;
+    private int[] rankings;
+    private long[] memberIds;
+    private boolean[] isWinner;
+    private String[] winnerNames;
+    private String[] joinedAt;
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.ssafy.fiftyninesec.participation.dto;
+
+import java.time.LocalDateTime;
+
+// 쓰기 지연 버퍼에 쌓이는 참여 한 건 (Participation 테이블의 한 행)
+public record ParticipationRecord(Long roomId, Long memberId, LocalDateTime joinedAt, int ranking, boolean isWinner) {
+
+    public String pendingField() {
+        return roomId + ":" + memberId;
+    }
+}
@@ -0,0 +1,16 @@
+package com.ssafy.fiftyninesec.participation.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+// 늦게 구독한 클라이언트가 lastRanking 이후의 델타 메시지부터 이어 받을 수 있도록 제공하는 스냅샷
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ParticipationSnapshotDto {
+    private Long eventId;
+    private Integer lastRanking;
+    private List<ParticipationResponseDto> participations;
+}
\ No newline at end of file
@@ -12,7 +12,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "Participation")
+@Table(name = "Participation", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_participation_room_member", columnNames = {"room_id", "member_id"})
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
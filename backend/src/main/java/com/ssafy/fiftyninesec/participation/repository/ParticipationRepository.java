@@ -20,6 +20,8 @@ public interface ParticipationRepository extends JpaRepository<Participation, Lo
     Optional<List<Participation>> findByRoomIdOrderByRankingAsc(Long roomId);
     boolean existsByRoomIdAndMemberId(Long roomId, Long memberId);
     int countByRoomId(Long roomId);
+    @Query("SELECT p.member.id FROM Participation p WHERE p.room.id = :roomId")
+    List<Long> findMemberIdsByRoomId(@Param("roomId") Long roomId);
     List<Participation> findByMemberId(Long memberId);
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT MAX(p.ranking) FROM Participation p WHERE p.room.id = :roomId")
@@ -0,0 +1,82 @@
+package com.ssafy.fiftyninesec.participation.service;
+
+import com.ssafy.fiftyninesec.participation.repository.ParticipationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.ssafy.fiftyninesec.global.constants.RedisConstants.*;
+
+// 방별 참여자 집합(event:participants:{roomId})을 처음 사용할 때 MySQL 의 기존 참여자로 채운다
+// 이후 중복 참여 판단은 Lua 스크립트의 SADD 결과만으로 O(1)에 끝난다 (MySQL exists 조회 없음)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParticipantSetSeeder {
+
+    private final ParticipationRepository participationRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${participation.seed.chunk-size:1000}")
+    private int chunkSize;
+
+    // 이 노드에서 시딩 완료를 확인한 방 (확인 후에는 Redis 도 다시 조회하지 않음)
+    private final Set<Long> seededRooms = ConcurrentHashMap.newKeySet();
+    // 방별 시딩 잠금: 큰 방의 느린 조회가 다른 방의 첫 참여를 막지 않도록 방마다 따로 잡는다
+    // synchronized 는 I/O 중 가상 스레드를 캐리어에 고정시키므로 ReentrantLock 사용
+    private final ConcurrentHashMap<Long, ReentrantLock> seedLocks = new ConcurrentHashMap<>();
+
+    public void ensureSeeded(Long roomId) {
+        if (seededRooms.contains(roomId)) {
+            return;
+        }
+
+        ReentrantLock lock = seedLocks.computeIfAbsent(roomId, id -> new ReentrantLock());
+        lock.lock();
+        try {
+            // 기다리는 동안 다른 스레드가 시딩을 끝냈을 수 있다
+            if (seededRooms.contains(roomId)) {
+                return;
+            }
+
+            String seededKey = PARTICIPANTS_SEEDED_KEY_PREFIX + roomId;
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(seededKey))) {
+                seed(roomId);
+                // 집합을 다 채운 뒤에 표시해야 다른 노드가 덜 채워진 집합으로 중복 판단을 하지 않는다
+                stringRedisTemplate.opsForValue().set(seededKey, "1");
+            }
+            seededRooms.add(roomId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void evict(Long roomId) {
+        seededRooms.remove(roomId);
+        seedLocks.remove(roomId);
+    }
+
+// -----------------------------------------------------------------------------------------------------
+
+    // 여러 노드가 동시에 시딩해도 SADD 라 결과는 같다
+    private void seed(Long roomId) {
+        List<Long> memberIds = participationRepository.findMemberIdsByRoomId(roomId);
+        String participantsKey = PARTICIPANTS_KEY_PREFIX + roomId;
+
+        for (int from = 0; from < memberIds.size(); from += chunkSize) {
+            String[] chunk = memberIds.subList(from, Math.min(from + chunkSize, memberIds.size())).stream()
+                    .map(String::valueOf)
+                    .toArray(String[]::new);
+            stringRedisTemplate.opsForSet().add(participantsKey, chunk);
+        }
+
+        log.info("Seeded participant set - room: {}, members: {}", roomId, memberIds.size());
+    }
+}
@@ -0,0 +1,66 @@
+package com.ssafy.fiftyninesec.participation.service;
+
+import com.ssafy.fiftyninesec.global.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.ssafy.fiftyninesec.global.constants.RedisConstants.*;
+import static com.ssafy.fiftyninesec.global.exception.ErrorCode.*;
+
+// 분산 락 없이 Lua 스크립트 한 번으로 참여를 승인하는 컴포넌트
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParticipationAdmissionEngine {
+
+    private static final long ALREADY_PARTICIPATED_RESULT = -1L;
+    private static final long SOLD_OUT_RESULT = -2L;
+
+    private static final RedisScript<Long> ADMISSION_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/participation-admission.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 중복 확인 → 랭킹 INCR → 당첨 여부 판단 → 스트림 적재를 원자적으로 수행하고 발급된 랭킹을 반환
+    // rejectAfterSoldOut 이면 공유 랭킹 카운터가 winnerNum 에 도달한 방은 EVENT_SOLD_OUT 으로 거절
+    public long admit(Long roomId, Long memberId, int winnerNum, boolean rejectAfterSoldOut,
+                      String winnerName, LocalDateTime joinedAt) {
+        List<String> keys = List.of(
+                PARTICIPANTS_KEY_PREFIX + roomId,
+                RANKING_KEY_PREFIX + roomId,
+                PARTICIPATION_STREAM_PREFIX + roomId,
+                PARTICIPATION_PENDING_KEY,
+                ACTIVE_ROOMS_KEY
+        );
+
+        Long ranking = stringRedisTemplate.execute(
+                ADMISSION_SCRIPT,
+                keys,
+                String.valueOf(memberId),
+                String.valueOf(winnerNum),
+                String.valueOf(roomId),
+                joinedAt.toString(),
+                winnerName == null ? "" : winnerName,
+                rejectAfterSoldOut ? "1" : "0"
+        );
+
+        if (ranking == null) {
+            log.error("Admission script returned no result - room: {}, member: {}", roomId, memberId);
+            throw new CustomException(PARTICIPATION_FAILED);
+        }
+        if (ranking == ALREADY_PARTICIPATED_RESULT) {
+            throw new CustomException(ALREADY_PARTICIPATED);
+        }
+        if (ranking == SOLD_OUT_RESULT) {
+            throw new CustomException(EVENT_SOLD_OUT);
+        }
+        return ranking;
+    }
+}
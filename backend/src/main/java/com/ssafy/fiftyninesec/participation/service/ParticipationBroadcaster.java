@@ -0,0 +1,140 @@
+package com.ssafy.fiftyninesec.participation.service;
+
+import com.ssafy.fiftyninesec.global.util.BroadcastUtil;
+import com.ssafy.fiftyninesec.global.util.WorkerThreads;
+import com.ssafy.fiftyninesec.participation.dto.ParticipationResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+// 방별로 참여 결과를 tick 동안 모아 한 번만 직렬화해 프레임 하나로 전송하는 브로드캐스터
+// 같은 방에 1초에 수천 명이 몰려도 구독자에게는 tick 당 최대 한 프레임(최대 maxBatchSize 건)만 나간다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParticipationBroadcaster {
+
+    private static final String DESTINATION_PREFIX = "/result/sub/participations/";
+
+    private final ParticipationPayloadEncoder payloadEncoder;
+    private final BroadcastUtil broadcastUtil;
+    private final MeterRegistry meterRegistry;
+    private final WorkerThreads workerThreads;
+
+    @Value("${participation.broadcast.tick-ms:50}")
+    private long tickMs;
+
+    @Value("${participation.broadcast.max-batch-size:500}")
+    private int maxBatchSize;
+
+    private final ConcurrentHashMap<Long, ConcurrentLinkedQueue<Submission>> pendingByRoom = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService ticker;
+    // 방이 끝없이 늘어나므로 roomId 는 태그로 달지 않는다
+    private Counter frameCounter;
+    private Counter byteCounter;
+
+    @PostConstruct
+    void start() {
+        frameCounter = Counter.builder("participation.broadcast.frames")
+                .description("전송 프레임 수")
+                .register(meterRegistry);
+        byteCounter = Counter.builder("participation.broadcast.bytes")
+                .description("전송 바이트 수")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        ticker = Executors.newSingleThreadScheduledExecutor(workerThreads.factory("participation-broadcast-tick"));
+        ticker.scheduleWithFixedDelay(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        ticker.shutdown();
+        tick();
+    }
+
+    // 전송이 끝나면 onSent 가 호출된다 (스트림 ACK 용)
+    public void submit(Long roomId, List<ParticipationResponseDto> participations, Runnable onSent) {
+        pendingByRoom.computeIfAbsent(roomId, key -> new ConcurrentLinkedQueue<>())
+                .add(new Submission(participations, onSent));
+    }
+
+    // 방 정리(RELEASED) 시 남은 결과를 마저 보내고 방별 큐를 제거
+    // tick 과 같은 스레드에서 실행해 전송 중인 큐와 겹치지 않게 한다
+    public void evict(Long roomId) {
+        ticker.execute(() -> {
+            ConcurrentLinkedQueue<Submission> queue = pendingByRoom.remove(roomId);
+            if (queue == null) {
+                return;
+            }
+            try {
+                flushRoom(roomId, queue);
+            } catch (Exception e) {
+                log.error("Error broadcasting participations for room {} - Error: {}", roomId, e.getMessage());
+            }
+        });
+    }
+
+// -----------------------------------------------------------------------------------------------------
+
+    private void tick() {
+        pendingByRoom.forEach((roomId, queue) -> {
+            try {
+                flushRoom(roomId, queue);
+            } catch (Exception e) {
+                log.error("Error broadcasting participations for room {} - Error: {}", roomId, e.getMessage());
+            }
+        });
+    }
+
+    private void flushRoom(Long roomId, ConcurrentLinkedQueue<Submission> queue) throws Exception {
+        List<ParticipationResponseDto> frame = new ArrayList<>();
+        List<Runnable> callbacks = new ArrayList<>();
+
+        Submission submission;
+        while ((submission = queue.poll()) != null) {
+            for (ParticipationResponseDto participation : submission.participations()) {
+                if (frame.size() >= maxBatchSize) {
+                    sendFrame(roomId, frame);
+                    frame = new ArrayList<>();
+                }
+                frame.add(participation);
+            }
+            callbacks.add(submission.onSent());
+        }
+
+        if (!frame.isEmpty()) {
+            sendFrame(roomId, frame);
+        }
+        for (Runnable callback : callbacks) {
+            try {
+                callback.run();
+            } catch (Exception e) {
+                log.error("Error running broadcast callback for room {} - Error: {}", roomId, e.getMessage());
+            }
+        }
+    }
+
+    private void sendFrame(Long roomId, List<ParticipationResponseDto> frame) throws Exception {
+        frame.sort(Comparator.comparing(ParticipationResponseDto::getRanking));
+
+        // 배치당 한 번만 인코딩하고, 같은 버퍼를 모든 구독 세션이 공유
+        byte[] payload = payloadEncoder.encode(roomId, frame);
+        broadcastUtil.sendPreSerialized(DESTINATION_PREFIX + roomId, payload);
+
+        frameCounter.increment();
+        byteCounter.increment(payload.length);
+    }
+
+    private record Submission(List<ParticipationResponseDto> participations, Runnable onSent) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.ssafy.fiftyninesec.participation.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.ssafy.fiftyninesec.participation.dto.ParticipationColumnarDto;
+import com.ssafy.fiftyninesec.participation.dto.ParticipationResponseDto;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 브로드캐스트 프레임을 바이트로 한 번만 인코딩
+// json(기본): ParticipationResponseDto 배열, columnar: ParticipationColumnarDto
+@Component
+@RequiredArgsConstructor
+public class ParticipationPayloadEncoder {
+
+    private static final String COLUMNAR = "columnar";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${participation.broadcast.encoding:json}")
+    private String encoding;
+
+    private ObjectWriter listWriter;
+    private ObjectWriter columnarWriter;
+
+    @PostConstruct
+    void init() {
+        // 타입별 직렬화기를 미리 만들어 프레임마다 다시 찾지 않도록 한다
+        listWriter = objectMapper.writerFor(new TypeReference<List<ParticipationResponseDto>>() {});
+        columnarWriter = objectMapper.writerFor(ParticipationColumnarDto.class);
+    }
+
+    public byte[] encode(Long roomId, List<ParticipationResponseDto> frame) throws JsonProcessingException {
+        if (COLUMNAR.equalsIgnoreCase(encoding)) {
+            return columnarWriter.writeValueAsBytes(toColumnar(roomId, frame));
+        }
+        return listWriter.writeValueAsBytes(frame);
+    }
+
+    private ParticipationColumnarDto toColumnar(Long roomId, List<ParticipationResponseDto> frame) {
+        int size = frame.size();
+        int[] rankings = new int[size];
+        long[] memberIds = new long[size];
+        boolean[] isWinner = new boolean[size];
+        String[] winnerNames = new String[size];
+        String[] joinedAt = new String[size];
+
+        for (int i = 0; i < size; i++) {
+            ParticipationResponseDto participation = frame.get(i);
+            rankings[i] = participation.getRanking();
+            memberIds[i] = participation.getMemberId();
+            isWinner[i] = Boolean.TRUE.equals(participation.getIsWinner());
+            winnerNames[i] = participation.getWinnerName();
+            joinedAt[i] = participation.getJoinedAt() == null ? null : participation.getJoinedAt().toString();
+        }
+
+        return ParticipationColumnarDto.builder()
+                .eventId(roomId)
+                .rankings(rankings)
+                .memberIds(memberIds)
+                .isWinner(isWinner)
+                .winnerNames(winnerNames)
+                .joinedAt(joinedAt)
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.ssafy.fiftyninesec.participation.service;
+
+import com.ssafy.fiftyninesec.solution.event.RoomLifecycleEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static com.ssafy.fiftyninesec.global.constants.RedisConstants.*;
+
+// 방 생애주기에 맞춰 참여 경로의 메모리/Redis 상태를 정리 (예열은 RoomWarmUpPipeline)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParticipationRoomLifecycleHandler {
+
+    private final RoomAdmissionGate admissionGate;
+    private final ParticipantSetSeeder participantSetSeeder;
+    private final ParticipationStreamCodec streamCodec;
+    private final ParticipationBroadcaster broadcaster;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @EventListener
+    public void onLifecycle(RoomLifecycleEvent event) {
+        if (event.phase() == RoomLifecycleEvent.Phase.RELEASED) {
+            release(event.roomId());
+        }
+    }
+
+// -----------------------------------------------------------------------------------------------------
+
+    // 종료 후 유예 시간이 지난 방의 키 정리 (참여 기록은 MySQL 에 있음)
+    private void release(Long roomId) {
+        stringRedisTemplate.delete(List.of(
+                PARTICIPANTS_KEY_PREFIX + roomId,
+                PARTICIPANTS_SEEDED_KEY_PREFIX + roomId,
+                RANKING_KEY_PREFIX + roomId,
+                streamCodec.streamKey(roomId)
+        ));
+        stringRedisTemplate.opsForSet().remove(ACTIVE_ROOMS_KEY, String.valueOf(roomId));
+
+        admissionGate.evict(roomId);
+        participantSetSeeder.evict(roomId);
+        broadcaster.evict(roomId);
+        log.info("Released Redis keys of room {}", roomId);
+    }
+}
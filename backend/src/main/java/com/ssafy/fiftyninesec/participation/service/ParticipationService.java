@@ -1,25 +1,25 @@
 package com.ssafy.fiftyninesec.participation.service;
 
 import com.ssafy.fiftyninesec.global.exception.CustomException;
+import com.ssafy.fiftyninesec.participation.dto.ParticipationRecord;
 import com.ssafy.fiftyninesec.participation.dto.ParticipationResponseDto;
+import com.ssafy.fiftyninesec.participation.dto.ParticipationSnapshotDto;
 import com.ssafy.fiftyninesec.participation.entity.Participation;
 import com.ssafy.fiftyninesec.participation.repository.ParticipationRepository;
-import com.ssafy.fiftyninesec.solution.entity.EventRoom;
 import com.ssafy.fiftyninesec.solution.entity.Member;
-import com.ssafy.fiftyninesec.solution.repository.EventRoomRepository;
 import com.ssafy.fiftyninesec.solution.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
@@ -33,17 +33,19 @@ import static com.ssafy.fiftyninesec.global.exception.ErrorCode.*;
 @Slf4j
 public class ParticipationService {
 
-    private static final long PARTICIPATION_QUEUE_RATE = 3000; // 5초
-
     private final AtomicLong rankingCounter = new AtomicLong(0);
 
     private final MemberRepository memberRepository;
-    private final EventRoomRepository eventRoomRepository;
     private final ParticipationRepository participationRepository;
 
-    private final RedissonClient redissonClient;
+    private final RoomAdmissionGate admissionGate;
+    private final ParticipantSetSeeder participantSetSeeder;
+    private final ParticipationAdmissionEngine admissionEngine;
+    private final ParticipationWriteBehindBuffer writeBehindBuffer;
     private final SimpMessagingTemplate messagingTemplate;
+    private final ParticipationStreamCodec streamCodec;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
 
     // 기존 참여자들을 조회
     @Transactional(readOnly = true)
@@ -57,157 +59,91 @@ public class ParticipationService {
     }
 
     // 새로운 참여자를 저장하고 WebSocket으로 알림 전송
-    @Transactional
+    @Transactional(readOnly = true)
     public ParticipationResponseDto saveParticipation(Long roomId, Long memberId) {
-        String lockKey = PARTICIPATION_LOCK_PREFIX + roomId;
-        RLock lock = redissonClient.getLock(lockKey);
-
-        try {
-            boolean isLocked = lock.tryLock(LOCK_WAIT_TIME, LOCK_LEASE_TIME, TimeUnit.MILLISECONDS);
-            if (!isLocked) {
-                throw new CustomException(LOCK_ACQUISITION_FAILED);
-            }
-
-            // 유효성 검사
-            Member member = memberRepository.findById(memberId)
-                    .orElseThrow(() -> new CustomException(MEMBER_NOT_FOUND));
-            EventRoom room = eventRoomRepository.findById(roomId)
-                    .orElseThrow(() -> new CustomException(EVENT_NOT_FOUND));
-
-            validateEventTiming(room);
-            validateDuplicateParticipation(roomId, memberId);
-
-            // 1. 랭킹 생성
-            String rankingKey = RANKING_KEY_PREFIX + roomId;
-            Long currentRanking = redisTemplate.opsForValue().increment(rankingKey);
-
-            // 2. Participation 객체 생성 및 저장
-            Participation participation = Participation.builder()
-                    .room(room)
-                    .member(member)
-                    .joinedAt(LocalDateTime.now())
-                    .ranking(currentRanking.intValue())
-                    .isWinner(currentRanking <= room.getWinnerNum())
-                    .build();
-
-            Participation savedParticipation = participationRepository.save(participation);
+        // 시작 전 / 당첨 마감된 방은 메모리 게이트에서 바로 거절
+        RoomAdmissionGate.RoomState room = admissionGate.check(roomId);
 
-            // Redis 큐에 참여 정보 저장
-            String queueKey = PARTICIPATION_QUEUE_PREFIX + roomId;
-            ParticipationResponseDto responseDto = convertToDto(savedParticipation);
-            redisTemplate.opsForList().rightPush(queueKey, responseDto);
+        // 유효성 검사
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new CustomException(MEMBER_NOT_FOUND));
 
-            // 자신의 랭킹보다 낮은 참여자 정보 가져오기
-            List<Object> participants = redisTemplate.opsForList().range(queueKey, 0, -1);
-            List<ParticipationResponseDto> lowerRankedParticipants = new ArrayList<>();
+        // 기존 참여자를 Redis 참여자 집합에 한 번만 적재 (이후 중복 확인은 MySQL 조회 없이 처리)
+        participantSetSeeder.ensureSeeded(roomId);
 
-            for (Object obj : participants) {
-                if (obj instanceof ParticipationResponseDto) {
-                    ParticipationResponseDto dto = (ParticipationResponseDto) obj;
-                    if (dto.getRanking() < currentRanking.intValue()) { // 내 랭킹보다 낮은 경우
-                        lowerRankedParticipants.add(dto);
-                    }
-                }
-            }
-
-            messagingTemplate.convertAndSend("/result/sub/participations/" + roomId, lowerRankedParticipants);
-
-            return responseDto;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new CustomException(LOCK_INTERRUPTED);
-        } finally {
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
+        // 1. 중복 확인(Redis 참여자 집합) + 랭킹 생성 + 당첨 판단 + 스트림 적재 (Lua 스크립트 한 번으로 처리)
+        LocalDateTime joinedAt = LocalDateTime.now();
+        long currentRanking;
+        try {
+            currentRanking = admissionEngine.admit(roomId, memberId, room.getWinnerNum(),
+                    admissionGate.isRejectAfterSoldOut(), member.getCreatorName(), joinedAt);
+        } catch (CustomException e) {
+            // 다른 노드에서 마감된 방: 공유 카운터 기준으로 거절하고 이 노드의 게이트에도 기록
+            if (e.getErrorCode() == EVENT_SOLD_OUT) {
+                throw admissionGate.soldOut(roomId);
             }
+            throw e;
         }
-    }
-
-    @Scheduled(fixedRate = PARTICIPATION_QUEUE_RATE)
-    public void processParticipationQueue() {
-
-        log.debug("processParticipationQueue: 매 {} ms", PARTICIPATION_QUEUE_RATE);
-        Set<String> queueKeys = redisTemplate.keys(PARTICIPATION_QUEUE_PREFIX + "*");
+        admissionGate.recordRanking(roomId, currentRanking);
 
-        if (queueKeys == null || queueKeys.isEmpty()) {
-            log.info("참여 큐가 없습니다.");
-            return;
-        }
+        // 2. DB 저장은 쓰기 지연 버퍼에 맡기고 바로 응답
+        boolean isWinner = currentRanking <= room.getWinnerNum();
+        writeBehindBuffer.enqueue(new ParticipationRecord(roomId, memberId, joinedAt, (int) currentRanking, isWinner));
 
-        for (String queueKey : queueKeys) {
-            Long roomId = Long.parseLong(queueKey.substring(queueKey.lastIndexOf(':') + 1));
-            String lastProcessedKey = LAST_PROCESSED_ID_PREFIX + roomId; // 표시된 마지막 등수에 대한 키
+        ParticipationResponseDto responseDto = ParticipationResponseDto.builder()
+                .eventId(roomId)
+                .memberId(memberId)
+                .joinedAt(joinedAt)
+                .ranking((int) currentRanking)
+                .isWinner(isWinner)
+                .winnerName(member.getCreatorName())
+                .build();
 
-            Integer lastProcessedRanking = (Integer) redisTemplate.opsForValue().get(lastProcessedKey);
-            if (lastProcessedRanking == null) {
-                lastProcessedRanking = 0;
-            }
+        // WebSocket 전송은 스트림 컨슈머가 새로 추가된 랭킹만 델타로 전송
+        return responseDto;
+    }
 
-            List<ParticipationResponseDto> participations = new ArrayList<>();
-            Object dto;
+    // afterRanking 이후의 참여 결과 스냅샷 (랭킹이 곧 스트림 ID이므로 XRANGE 한 번으로 조회)
+    public ParticipationSnapshotDto getParticipationSnapshot(Long roomId, int afterRanking, int size) {
+        Range<String> range = Range.rightUnbounded(Range.Bound.inclusive((afterRanking + 1) + "-0"));
+        List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream()
+                .range(streamCodec.streamKey(roomId), range, Limit.limit().count(size));
 
-            //redis에 쌓인 정보 모두
-            while ((dto = redisTemplate.opsForList().leftPop(queueKey)) != null) {
+        List<ParticipationResponseDto> participations = new ArrayList<>();
+        if (records != null) {
+            for (MapRecord<String, Object, Object> record : records) {
                 try {
-                    if (dto instanceof LinkedHashMap) {
-                        ParticipationResponseDto participationDto = convertToParticipationDto((LinkedHashMap<String, Object>) dto);
-                        if (participationDto.getRanking() > lastProcessedRanking) {
-                            participations.add(participationDto);
-                            log.info("Added participation: {}", participationDto);
-                        }
-                    }
+                    participations.add(streamCodec.decode(record));
                 } catch (Exception e) {
-                    log.error("Error converting participation data: {} - Error: {}", dto, e.getMessage());
+                    log.error("Error converting participation data: {} - Error: {}", record.getValue(), e.getMessage());
                 }
             }
-
-            // 웹소켓으로 참여 정보 전송
-            sendParticipations(roomId, participations, lastProcessedKey);
         }
-    }
-
-// -----------------------------------------------------------------------------------------------------
-
-    private void sendParticipations(Long roomId, List<ParticipationResponseDto> participations, String lastProcessedKey) {
-        if (!participations.isEmpty()) {
-            participations.sort(Comparator.comparing(ParticipationResponseDto::getRanking));
 
-            messagingTemplate.convertAndSend(
-                    "/result/sub/participations/" + roomId,
-                    participations
-            );
+        int lastRanking = participations.isEmpty()
+                ? afterRanking
+                : participations.get(participations.size() - 1).getRanking();
 
-            redisTemplate.opsForValue().set(
-                    lastProcessedKey,
-                    participations.get(participations.size() - 1).getRanking()
-            );
-
-            log.info("Sent {} participations for room {}", participations.size(), roomId);
-        }
-    }
-
-    private void validateEventTiming(EventRoom room) {
-        LocalDateTime now = LocalDateTime.now();
-        if (now.isBefore(room.getStartTime())) {
-            throw new CustomException(EVENT_NOT_STARTED);
-        }
+        return ParticipationSnapshotDto.builder()
+                .eventId(roomId)
+                .lastRanking(lastRanking)
+                .participations(participations)
+                .build();
     }
 
-    private void validateDuplicateParticipation(Long roomId, Long memberId) {
-        if (participationRepository.existsByRoomIdAndMemberId(roomId, memberId)) {
-            throw new CustomException(ALREADY_PARTICIPATED);
-        }
-    }
+// -----------------------------------------------------------------------------------------------------
 
     // rankingCounter 초기화를 위한 메서드 추가
     public void resetTestRanking() {
         rankingCounter.set(0);
     }
 
-    // Redis에서 해당 rankingKey 삭제
+    // Redis에서 해당 rankingKey 삭제 (스트림 ID가 랭킹이므로 스트림도 함께 삭제)
+    // 그룹이 사라진 스트림을 컨슈머가 계속 읽지 않도록 활성 방에서도 뺀다 (다음 참여 시 다시 등록되고 그룹도 새로 만든다)
     public void deleteEventRanking(Long roomId){
         String rankingKey = RANKING_KEY_PREFIX + roomId;
-        redisTemplate.delete(rankingKey);
+        redisTemplate.delete(List.of(rankingKey, streamCodec.streamKey(roomId)));
+        redisTemplate.opsForSet().remove(ACTIVE_ROOMS_KEY, String.valueOf(roomId));
     }
 
 // -----------------------------------------------------------------------------------------------------
@@ -224,37 +160,6 @@ public class ParticipationService {
                 .build();
     }
 
-    private ParticipationResponseDto convertToParticipationDto(LinkedHashMap<String, Object> map) {
-        LocalDateTime joinedAt = convertToLocalDateTime(map.get("joinedAt"));
-
-        return ParticipationResponseDto.builder()
-                .eventId(((Number) map.get("eventId")).longValue())
-                .memberId(((Number) map.get("memberId")).longValue())
-                .joinedAt(joinedAt)
-                .ranking(((Number) map.get("ranking")).intValue())
-                .isWinner((Boolean) map.get("isWinner"))
-                .winnerName((String) map.get("winnerName"))
-                .build();
-    }
-
-    private LocalDateTime convertToLocalDateTime(Object joinedAt) {
-        if (joinedAt instanceof ArrayList) {
-            @SuppressWarnings("unchecked")
-            ArrayList<Integer> dateList = (ArrayList<Integer>) joinedAt;
-            return LocalDateTime.of(
-                    dateList.get(0), // year
-                    dateList.get(1), // month
-                    dateList.get(2), // day
-                    dateList.get(3), // hour
-                    dateList.get(4), // minute
-                    dateList.get(5), // second
-                    dateList.get(6)  // nanosecond
-            );
-        } else {
-            return LocalDateTime.parse((String) joinedAt);
-        }
-    }
-
 // TEST -----------------------------------------------------------------------------------------------------
 
     // db 개입 없이 ws 테스트
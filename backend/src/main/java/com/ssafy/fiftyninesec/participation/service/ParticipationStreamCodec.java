@@ -0,0 +1,32 @@
+package com.ssafy.fiftyninesec.participation.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.fiftyninesec.participation.dto.ParticipationResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.stereotype.Component;
+
+import static com.ssafy.fiftyninesec.global.constants.RedisConstants.PARTICIPATION_STREAM_FIELD;
+import static com.ssafy.fiftyninesec.global.constants.RedisConstants.PARTICIPATION_STREAM_PREFIX;
+
+// 참여 결과 스트림 레코드 <-> DTO 변환
+@Component
+@RequiredArgsConstructor
+public class ParticipationStreamCodec {
+
+    private final ObjectMapper objectMapper;
+
+    public ParticipationResponseDto decode(MapRecord<String, Object, Object> record) throws JsonProcessingException {
+        Object payload = record.getValue().get(PARTICIPATION_STREAM_FIELD);
+        return objectMapper.readValue((String) payload, ParticipationResponseDto.class);
+    }
+
+    public String streamKey(Long roomId) {
+        return PARTICIPATION_STREAM_PREFIX + roomId;
+    }
+
+    public Long roomIdOf(String streamKey) {
+        return Long.parseLong(streamKey.substring(PARTICIPATION_STREAM_PREFIX.length()));
+    }
+}
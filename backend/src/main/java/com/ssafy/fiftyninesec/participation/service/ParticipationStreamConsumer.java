@@ -0,0 +1,210 @@
+package com.ssafy.fiftyninesec.participation.service;
+
+import com.ssafy.fiftyninesec.global.util.WorkerThreads;
+import com.ssafy.fiftyninesec.participation.dto.ParticipationResponseDto;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static com.ssafy.fiftyninesec.global.constants.RedisConstants.*;
+
+// 방별 참여 결과 스트림을 컨슈머 그룹으로 묶어 읽고 브로드캐스터로 전송한 뒤 ACK 하는 컨슈머
+// KEYS 스캔 없이 활성 방 집합만 보고, XREADGROUP COUNT n BLOCK 으로 여러 방을 한 번에 읽는다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParticipationStreamConsumer {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ParticipationStreamCodec streamCodec;
+    private final ParticipationStreamGroups streamGroups;
+    private final ParticipationBroadcaster broadcaster;
+    private final WorkerThreads workerThreads;
+
+    @Value("${participation.stream.batch-size:200}")
+    private int batchSize;
+
+    @Value("${participation.stream.block-ms:100}")
+    private long blockMs;
+
+    @Value("${participation.stream.reclaim-idle-ms:30000}")
+    private long reclaimIdleMs;
+
+    private final String consumerName = "consumer-" + UUID.randomUUID();
+    private final Set<String> initializedGroups = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean running;
+    private Thread worker;
+    private long lastReclaimAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        worker = workerThreads.start("participation-stream-consumer", this::runConsumeLoop);
+        log.info("Participation stream consumer started - consumer: {}", consumerName);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+// -----------------------------------------------------------------------------------------------------
+
+    private void runConsumeLoop() {
+        while (running) {
+            try {
+                Set<String> streamKeys = activeStreamKeys();
+                if (streamKeys.isEmpty()) {
+                    TimeUnit.MILLISECONDS.sleep(blockMs);
+                    continue;
+                }
+
+                ensureGroups(streamKeys);
+                reclaimStaleIfDue(streamKeys);
+                consume(streamKeys);
+            } catch (InterruptedException e) {
+                running = false;
+            } catch (Exception e) {
+                log.error("Error while consuming participation streams - Error: {}", e.getMessage());
+                initializedGroups.clear(); // 그룹이 사라진 경우(NOGROUP) 다음 루프에서 다시 생성
+                sleepQuietly();
+            }
+        }
+    }
+
+    private Set<String> activeStreamKeys() {
+        Set<String> roomIds = stringRedisTemplate.opsForSet().members(ACTIVE_ROOMS_KEY);
+        if (roomIds == null || roomIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Set<String> streamKeys = new HashSet<>();
+        for (String roomId : roomIds) {
+            streamKeys.add(streamCodec.streamKey(Long.parseLong(roomId)));
+        }
+        return streamKeys;
+    }
+
+    private void ensureGroups(Set<String> streamKeys) {
+        // 정리(RELEASED)되어 활성 방에서 빠진 스트림은 잊는다
+        initializedGroups.retainAll(streamKeys);
+        for (String streamKey : streamKeys) {
+            if (initializedGroups.contains(streamKey)) {
+                continue;
+            }
+            // 실패하면(BUSYGROUP 외) 예외가 루프로 올라가 다음 루프에서 다시 시도한다
+            streamGroups.ensureGroup(streamKey);
+            initializedGroups.add(streamKey);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void consume(Set<String> streamKeys) {
+        StreamOffset<String>[] offsets = streamKeys.stream()
+                .map(streamKey -> StreamOffset.create(streamKey, ReadOffset.lastConsumed()))
+                .toArray(StreamOffset[]::new);
+
+        List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream().read(
+                Consumer.from(PARTICIPATION_CONSUMER_GROUP, consumerName),
+                StreamReadOptions.empty().count(batchSize).block(Duration.ofMillis(blockMs)),
+                offsets
+        );
+
+        if (records != null && !records.isEmpty()) {
+            dispatch(records);
+        }
+    }
+
+    // 오래 ACK 되지 않은 메시지(죽은 컨슈머가 가져간 것 포함)를 주기적으로 가져와 다시 전송
+    private void reclaimStaleIfDue(Set<String> streamKeys) {
+        long now = System.currentTimeMillis();
+        if (now - lastReclaimAt < reclaimIdleMs) {
+            return;
+        }
+        lastReclaimAt = now;
+
+        Duration minIdle = Duration.ofMillis(reclaimIdleMs);
+        for (String streamKey : streamKeys) {
+            PendingMessages pending = stringRedisTemplate.opsForStream()
+                    .pending(streamKey, PARTICIPATION_CONSUMER_GROUP, Range.unbounded(), batchSize);
+            if (pending == null || pending.isEmpty()) {
+                continue;
+            }
+
+            RecordId[] staleIds = pending.stream()
+                    .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0)
+                    .map(PendingMessage::getId)
+                    .toArray(RecordId[]::new);
+            if (staleIds.length == 0) {
+                continue;
+            }
+
+            List<MapRecord<String, Object, Object>> claimed = stringRedisTemplate.opsForStream()
+                    .claim(streamKey, PARTICIPATION_CONSUMER_GROUP, consumerName, minIdle, staleIds);
+            if (claimed != null && !claimed.isEmpty()) {
+                log.info("Reclaimed {} stale participations - stream: {}", claimed.size(), streamKey);
+                dispatch(claimed);
+            }
+        }
+    }
+
+    private void dispatch(List<MapRecord<String, Object, Object>> records) {
+        Map<String, List<MapRecord<String, Object, Object>>> recordsByStream = new HashMap<>();
+        for (MapRecord<String, Object, Object> record : records) {
+            recordsByStream.computeIfAbsent(record.getStream(), key -> new ArrayList<>()).add(record);
+        }
+
+        recordsByStream.forEach(this::sendAndAcknowledge);
+    }
+
+    private void sendAndAcknowledge(String streamKey, List<MapRecord<String, Object, Object>> records) {
+        Long roomId = streamCodec.roomIdOf(streamKey);
+        List<ParticipationResponseDto> participations = new ArrayList<>(records.size());
+
+        for (MapRecord<String, Object, Object> record : records) {
+            try {
+                participations.add(streamCodec.decode(record));
+            } catch (Exception e) {
+                log.error("Error converting participation data: {} - Error: {}", record.getValue(), e.getMessage());
+            }
+        }
+
+        RecordId[] ids = records.stream()
+                .map(MapRecord::getId)
+                .toArray(RecordId[]::new);
+        Runnable acknowledge = () -> stringRedisTemplate.opsForStream()
+                .acknowledge(streamKey, PARTICIPATION_CONSUMER_GROUP, ids);
+
+        if (participations.isEmpty()) {
+            acknowledge.run();
+            return;
+        }
+
+        // 전송 후 ACK (전송 전에 죽으면 reclaim 으로 다시 전송되는 at-least-once)
+        broadcaster.submit(roomId, participations, acknowledge);
+    }
+
+    private void sleepQuietly() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(blockMs);
+        } catch (InterruptedException e) {
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.ssafy.fiftyninesec.participation.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.ssafy.fiftyninesec.global.constants.RedisConstants.PARTICIPATION_CONSUMER_GROUP;
+
+// 참여 결과 스트림의 컨슈머 그룹 생성 (예열 파이프라인과 컨슈머가 함께 사용)
+// 스트림이 없어도 MKSTREAM 으로 만들고, 이미 그룹이 있는 경우(BUSYGROUP)만 정상으로 본다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParticipationStreamGroups {
+
+    private static final String BUSYGROUP = "BUSYGROUP";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void ensureGroup(String streamKey) {
+        byte[] key = streamKey.getBytes(StandardCharsets.UTF_8);
+        try {
+            // 그룹 생성 이전에 쌓인 참여도 전달되도록 처음(0)부터 읽는다
+            stringRedisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands()
+                    .xGroupCreate(key, PARTICIPATION_CONSUMER_GROUP, ReadOffset.from("0"), true));
+        } catch (DataAccessException e) {
+            if (!isBusyGroup(e)) {
+                throw e;
+            }
+            // 다른 노드가 이미 만든 경우
+            log.debug("Consumer group already exists - stream: {}", streamKey);
+        }
+    }
+
+// -----------------------------------------------------------------------------------------------------
+
+    private boolean isBusyGroup(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains(BUSYGROUP)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,337 @@
+package com.ssafy.fiftyninesec.participation.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.fiftyninesec.global.util.WorkerThreads;
+import com.ssafy.fiftyninesec.participation.dto.ParticipationRecord;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.ssafy.fiftyninesec.global.constants.RedisConstants.PARTICIPATION_FAILED_KEY;
+import static com.ssafy.fiftyninesec.global.constants.RedisConstants.PARTICIPATION_PENDING_KEY;
+
+// 승인된 참여를 메모리 버퍼에 모아 다중 행 INSERT로 DB에 반영하는 쓰기 지연(write-behind) 버퍼
+// DB 반영 전까지의 참여는 Redis 미반영 해시에 남아 있으므로 재시작/장애 시 그대로 재처리된다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParticipationWriteBehindBuffer {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO participation (room_id, member_id, joined_at, ranking, is_winner) VALUES ";
+    // 재처리로 같은 참여가 다시 들어온 경우(uk_participation_room_member)만 흡수하고, FK 위반·길이 초과 등은 오류로 남긴다
+    private static final String ON_DUPLICATE_SUFFIX = " ON DUPLICATE KEY UPDATE room_id = room_id";
+    private static final String VALUES_GROUP = "(?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final WorkerThreads workerThreads;
+
+    @Value("${participation.write-behind.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    @Value("${participation.write-behind.batch-size:500}")
+    private int batchSize;
+
+    @Value("${participation.write-behind.buffer-capacity:10000}")
+    private int bufferCapacity;
+
+    @Value("${participation.write-behind.max-backoff-ms:30000}")
+    private long maxBackoffMs;
+
+    private final AtomicBoolean replayRequired = new AtomicBoolean(true);
+    private BlockingQueue<ParticipationRecord> buffer;
+    private volatile boolean running;
+    private Thread flusher;
+    private int consecutiveFailures;
+
+    private Timer flushTimer;
+    private Counter flushedRows;
+    private Counter failedFlushes;
+    private Counter overflows;
+    private Counter rejectedRows;
+
+    @PostConstruct
+    void init() {
+        buffer = new ArrayBlockingQueue<>(bufferCapacity);
+
+        flushTimer = Timer.builder("participation.writebehind.flush")
+                .description("참여 배치 INSERT 소요 시간")
+                .register(meterRegistry);
+        flushedRows = Counter.builder("participation.writebehind.rows")
+                .description("DB에 반영된 참여 행 수")
+                .register(meterRegistry);
+        failedFlushes = Counter.builder("participation.writebehind.failures")
+                .description("실패한 배치 INSERT 수")
+                .register(meterRegistry);
+        rejectedRows = Counter.builder("participation.writebehind.rejected")
+                .description("무결성 오류로 반영되지 못하고 실패 해시로 옮겨진 참여 수")
+                .register(meterRegistry);
+        overflows = Counter.builder("participation.writebehind.overflows")
+                .description("버퍼가 가득 차 Redis 재처리로 넘어간 참여 수")
+                .register(meterRegistry);
+        Gauge.builder("participation.writebehind.backlog", buffer, Collection::size)
+                .description("DB 반영을 기다리는 참여 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        flusher = workerThreads.start("participation-write-behind", this::runFlushLoop);
+        log.info("Participation write-behind started - interval: {}ms, batch: {}, capacity: {}",
+                flushIntervalMs, batchSize, bufferCapacity);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (flusher != null) {
+            flusher.interrupt();
+            try {
+                flusher.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        // 남은 참여는 종료 전에 반영 (실패해도 Redis 미반영 해시에 남아 있음)
+        List<ParticipationRecord> remaining = new ArrayList<>(batchSize);
+        while (buffer.drainTo(remaining, batchSize) > 0) {
+            flush(remaining);
+            remaining.clear();
+        }
+    }
+
+    public void enqueue(ParticipationRecord record) {
+        if (!buffer.offer(record)) {
+            // 버퍼가 가득 찬 경우 Redis 미반영 해시에서 다시 읽어오도록 표시
+            overflows.increment();
+            replayRequired.set(true);
+            log.warn("Write-behind buffer is full, deferring to replay - room: {}, member: {}",
+                    record.roomId(), record.memberId());
+        }
+    }
+
+// -----------------------------------------------------------------------------------------------------
+
+    private void runFlushLoop() {
+        List<ParticipationRecord> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                if (buffer.isEmpty() && replayRequired.compareAndSet(true, false)) {
+                    replayPending();
+                }
+                collectBatch(batch);
+            } catch (InterruptedException e) {
+                running = false;
+            }
+
+            if (!batch.isEmpty()) {
+                boolean flushed = flush(batch);
+                batch.clear();
+                if (!flushed) {
+                    backOff();
+                }
+            }
+        }
+    }
+
+    // DB 장애 중에 재처리(HSCAN) -> 실패를 쉬지 않고 반복하지 않도록 실패가 이어질수록 대기 시간을 늘린다
+    private void backOff() {
+        consecutiveFailures++;
+        long backoff = Math.min(maxBackoffMs, flushIntervalMs << Math.min(consecutiveFailures, 10));
+        log.warn("Write-behind flush failed {} time(s) in a row, retrying in {}ms", consecutiveFailures, backoff);
+        try {
+            TimeUnit.MILLISECONDS.sleep(backoff);
+        } catch (InterruptedException e) {
+            running = false;
+        }
+    }
+
+    // flushIntervalMs가 지나거나 batchSize만큼 모이면 반환
+    private void collectBatch(List<ParticipationRecord> batch) throws InterruptedException {
+        ParticipationRecord first = buffer.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        while (batch.size() < batchSize) {
+            buffer.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            ParticipationRecord next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private boolean flush(List<ParticipationRecord> batch) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            jdbcTemplate.update(buildInsertSql(batch.size()), toInsertArgs(batch));
+            completePending(batch);
+
+            flushedRows.increment(batch.size());
+            consecutiveFailures = 0;
+            log.debug("Flushed {} participations", batch.size());
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // 배치 안 일부 행의 무결성 오류: 행 단위로 다시 넣어 문제 행만 골라낸다
+            log.warn("Batch of {} participations violated a constraint, retrying row by row - Error: {}",
+                    batch.size(), e.getMessage());
+            return flushRowByRow(batch);
+        } catch (Exception e) {
+            // 미반영 해시에 그대로 남아 있으므로 다음 루프에서 재처리
+            failedFlushes.increment();
+            replayRequired.set(true);
+            log.error("Failed to flush {} participations - Error: {}", batch.size(), e.getMessage());
+            return false;
+        } finally {
+            sample.stop(flushTimer);
+        }
+    }
+
+    private boolean flushRowByRow(List<ParticipationRecord> batch) {
+        List<ParticipationRecord> flushed = new ArrayList<>(batch.size());
+        try {
+            for (ParticipationRecord record : batch) {
+                try {
+                    jdbcTemplate.update(buildInsertSql(1), toInsertArgs(List.of(record)));
+                    flushed.add(record);
+                } catch (DataIntegrityViolationException e) {
+                    reject(record, e);
+                }
+            }
+            completePending(flushed);
+            flushedRows.increment(flushed.size());
+            consecutiveFailures = 0;
+            return true;
+        } catch (Exception e) {
+            // 일시 장애: 반영된 행은 중복으로 흡수되므로 남은 행과 함께 재처리
+            completePending(flushed);
+            failedFlushes.increment();
+            replayRequired.set(true);
+            log.error("Failed to flush participations row by row - Error: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    // 재시도해도 반영될 수 없는 행은 실패 해시로 옮겨 무한 재처리를 막고, 조용히 사라지지 않도록 남겨 둔다
+    private void reject(ParticipationRecord record, DataIntegrityViolationException e) {
+        String field = record.pendingField();
+        Object json = stringRedisTemplate.opsForHash().get(PARTICIPATION_PENDING_KEY, field);
+        if (json != null) {
+            stringRedisTemplate.opsForHash().put(PARTICIPATION_FAILED_KEY, field, json);
+        }
+        stringRedisTemplate.opsForHash().delete(PARTICIPATION_PENDING_KEY, field);
+        rejectedRows.increment();
+        log.error("Rejected participation - room: {}, member: {} - Error: {}",
+                record.roomId(), record.memberId(), e.getMostSpecificCause().getMessage());
+    }
+
+    private void completePending(List<ParticipationRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        Object[] fields = records.stream()
+                .map(ParticipationRecord::pendingField)
+                .toArray();
+        stringRedisTemplate.opsForHash().delete(PARTICIPATION_PENDING_KEY, fields);
+    }
+
+    private void replayPending() {
+        ScanOptions options = ScanOptions.scanOptions().count(batchSize).build();
+        int replayed = 0;
+
+        try (Cursor<Map.Entry<Object, Object>> cursor =
+                     stringRedisTemplate.opsForHash().scan(PARTICIPATION_PENDING_KEY, options)) {
+            while (cursor.hasNext()) {
+                ParticipationRecord record = parsePending((String) cursor.next().getValue());
+                if (!buffer.offer(record)) {
+                    replayRequired.set(true);
+                    break;
+                }
+                replayed++;
+            }
+        } catch (Exception e) {
+            replayRequired.set(true);
+            log.error("Failed to replay pending participations - Error: {}", e.getMessage());
+        }
+
+        if (replayed > 0) {
+            log.info("Replayed {} pending participations from Redis", replayed);
+        }
+    }
+
+    private ParticipationRecord parsePending(String json) throws Exception {
+        JsonNode node = objectMapper.readTree(json);
+        return new ParticipationRecord(
+                node.get("eventId").asLong(),
+                node.get("memberId").asLong(),
+                LocalDateTime.parse(node.get("joinedAt").asText()),
+                node.get("ranking").asInt(),
+                node.get("isWinner").asBoolean()
+        );
+    }
+
+    private String buildInsertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (VALUES_GROUP.length() + 2) + ON_DUPLICATE_SUFFIX.length());
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(VALUES_GROUP);
+        }
+        sql.append(ON_DUPLICATE_SUFFIX);
+        return sql.toString();
+    }
+
+    private Object[] toInsertArgs(List<ParticipationRecord> batch) {
+        Object[] args = new Object[batch.size() * 5];
+        int i = 0;
+        for (ParticipationRecord record : batch) {
+            args[i++] = record.roomId();
+            args[i++] = record.memberId();
+            args[i++] = Timestamp.valueOf(record.joinedAt());
+            args[i++] = record.ranking();
+            args[i++] = record.isWinner();
+        }
+        return args;
+    }
+}
@@ -0,0 +1,129 @@
+package com.ssafy.fiftyninesec.participation.service;
+
+import com.ssafy.fiftyninesec.global.exception.CustomException;
+import com.ssafy.fiftyninesec.global.exception.ErrorCode;
+import com.ssafy.fiftyninesec.solution.entity.EventRoom;
+import com.ssafy.fiftyninesec.solution.event.RoomChangedEvent;
+import com.ssafy.fiftyninesec.solution.repository.EventRoomRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.ssafy.fiftyninesec.global.exception.ErrorCode.*;
+
+// 노드 로컬 방별 입장 게이트
+// 방 메타데이터(시작 시간, winnerNum, 마감 여부)를 메모리에 두고 시작 전/마감 후 요청을 Redis·MySQL 접근 없이 거절한다
+// 방 정보가 바뀌면 RoomChangedEvent(Redis pub/sub)로 캐시를 버린다
+// 마감 여부의 기준은 공유 랭킹 카운터(승인 스크립트)이고, 여기 soldOut 은 노드별로 그 결과를 기억해 두는 빠른 경로일 뿐이다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomAdmissionGate {
+
+    private final EventRoomRepository eventRoomRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${participation.gate.reject-after-sold-out:true}")
+    private boolean rejectAfterSoldOut;
+
+    private final ConcurrentHashMap<Long, RoomState> rooms = new ConcurrentHashMap<>();
+    // 방이 끝없이 늘어나므로 roomId 는 태그로 달지 않는다 (거절 사유별로만 집계)
+    private final ConcurrentHashMap<ErrorCode, Counter> rejectedCounters = new ConcurrentHashMap<>();
+
+    // 입장 가능하면 방 상태를 반환하고, 아니면 CustomException 으로 거절
+    public RoomState check(Long roomId) {
+        RoomState room = rooms.computeIfAbsent(roomId, this::load);
+
+        LocalDateTime now = LocalDateTime.now();
+        if (now.isBefore(room.getStartTime())) {
+            throw reject(roomId, EVENT_NOT_STARTED);
+        }
+        if (room.getEndTime() != null && now.isAfter(room.getEndTime())) {
+            throw reject(roomId, EVENT_ENDED);
+        }
+        if (rejectAfterSoldOut && room.isSoldOut()) {
+            throw reject(roomId, EVENT_SOLD_OUT);
+        }
+        return room;
+    }
+
+    public boolean isRejectAfterSoldOut() {
+        return rejectAfterSoldOut;
+    }
+
+    // 다른 노드가 발급한 랭킹으로 마감된 것을 승인 스크립트가 알려준 경우: 이 노드도 이후 요청을 메모리에서 거절
+    public CustomException soldOut(Long roomId) {
+        RoomState room = rooms.get(roomId);
+        if (room != null) {
+            room.markSoldOut();
+        }
+        return reject(roomId, EVENT_SOLD_OUT);
+    }
+
+    // 발급된 랭킹으로 당첨 인원이 모두 찼는지 기록 (이후 요청은 메모리에서 거절)
+    public void recordRanking(Long roomId, long ranking) {
+        RoomState room = rooms.get(roomId);
+        if (room != null && room.getWinnerNum() > 0 && ranking >= room.getWinnerNum()) {
+            room.markSoldOut();
+        }
+    }
+
+    // 시작 직전 예열용: 첫 참여 요청이 MySQL 조회를 기다리지 않도록 미리 적재
+    public RoomState preload(Long roomId) {
+        return rooms.computeIfAbsent(roomId, this::load);
+    }
+
+    public void evict(Long roomId) {
+        rooms.remove(roomId);
+    }
+
+    @EventListener
+    public void onRoomChanged(RoomChangedEvent event) {
+        evict(event.roomId());
+    }
+
+// -----------------------------------------------------------------------------------------------------
+
+    private RoomState load(Long roomId) {
+        EventRoom room = eventRoomRepository.findById(roomId)
+                .orElseThrow(() -> new CustomException(EVENT_NOT_FOUND));
+        log.debug("Admission gate loaded room {}", roomId);
+        return new RoomState(room.getStartTime(), room.getEndTime(), room.getWinnerNum());
+    }
+
+    private CustomException reject(Long roomId, ErrorCode reason) {
+        rejectedCounters.computeIfAbsent(reason, key -> Counter.builder("participation.gate.rejected")
+                        .description("입장 게이트에서 거절된 참여 요청 수")
+                        .tag("reason", key.name())
+                        .register(meterRegistry))
+                .increment();
+        log.debug("Admission gate rejected room {} - reason: {}", roomId, reason);
+        return new CustomException(reason);
+    }
+
+    @Getter
+    public static class RoomState {
+        private final LocalDateTime startTime;
+        private final LocalDateTime endTime;
+        private final int winnerNum;
+        private volatile boolean soldOut;
+
+        RoomState(LocalDateTime startTime, LocalDateTime endTime, int winnerNum) {
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.winnerNum = winnerNum;
+        }
+
+        void markSoldOut() {
+            this.soldOut = true;
+        }
+    }
+}
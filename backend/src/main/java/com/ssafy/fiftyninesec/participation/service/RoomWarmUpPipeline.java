@@ -0,0 +1,146 @@
+package com.ssafy.fiftyninesec.participation.service;
+
+import com.ssafy.fiftyninesec.global.util.WorkerThreads;
+import com.ssafy.fiftyninesec.solution.event.RoomLifecycleEvent;
+import com.ssafy.fiftyninesec.solution.service.EventService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.ssafy.fiftyninesec.global.constants.RedisConstants.*;
+
+// 방 시작 N초 전(RoomLifecycleEvent.WARM_UP)에 첫 참여 요청이 밟을 경로를 미리 데워 두는 파이프라인
+// 게이트 메타데이터 → 참여자 집합 → 랭킹 카운터 → 스트림/컨슈머 그룹 → 방 상세 캐시 → MySQL/Redis 연결 순으로 실행
+// 준비 상태는 room.warmup.rooms{state=pending|ready|failed} 게이지로 상태별 방 수만 노출 (roomId 태그 없음, 방별 결과는 로그)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomWarmUpPipeline {
+
+    private static final int PENDING = 0;
+    private static final int READY = 1;
+    private static final int FAILED = 2;
+
+    private final RoomAdmissionGate admissionGate;
+    private final ParticipantSetSeeder participantSetSeeder;
+    private final ParticipationStreamCodec streamCodec;
+    private final ParticipationStreamGroups streamGroups;
+    private final EventService eventService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final WorkerThreads workerThreads;
+
+    private final ConcurrentHashMap<Long, AtomicInteger> readinessByRoom = new ConcurrentHashMap<>();
+
+    // 생애주기 스케줄러 스레드를 막지 않도록 예열은 별도 스레드에서 실행
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        executor = Executors.newThreadPerTaskExecutor(workerThreads.factory("room-warm-up"));
+
+        registerStateGauge("pending", PENDING);
+        registerStateGauge("ready", READY);
+        registerStateGauge("failed", FAILED);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @EventListener
+    public void onLifecycle(RoomLifecycleEvent event) {
+        switch (event.phase()) {
+            case WARM_UP -> executor.submit(() -> warmUp(event.roomId()));
+            // 시작 시 상태 전환으로 방 상세 캐시가 무효화되므로 첫 요청 몰림 전에 새 상태로 다시 채운다
+            case OPENED -> executor.submit(() -> rewarmRoomDetail(event.roomId()));
+            case RELEASED -> removeReadiness(event.roomId());
+            default -> {
+            }
+        }
+    }
+
+    public boolean isReady(Long roomId) {
+        AtomicInteger readiness = readinessByRoom.get(roomId);
+        return readiness != null && readiness.get() == READY;
+    }
+
+    public void warmUp(Long roomId) {
+        AtomicInteger readiness = readinessByRoom.computeIfAbsent(roomId, id -> new AtomicInteger(PENDING));
+        readiness.set(PENDING);
+
+        try {
+            step("gate", () -> admissionGate.preload(roomId));
+            step("participants", () -> participantSetSeeder.ensureSeeded(roomId));
+            step("ranking", () -> stringRedisTemplate.opsForValue().setIfAbsent(RANKING_KEY_PREFIX + roomId, "0"));
+            step("stream", () -> prepareStream(roomId));
+            step("room-detail", () -> eventService.getEventRoomInfo(roomId));
+            step("connections", this::pingConnections);
+
+            readiness.set(READY);
+            log.info("Room {} warmed up for opening", roomId);
+        } catch (Exception e) {
+            readiness.set(FAILED);
+            log.error("Error warming up room {} - Error: {}", roomId, e.getMessage());
+        }
+    }
+
+// -----------------------------------------------------------------------------------------------------
+
+    private void rewarmRoomDetail(Long roomId) {
+        try {
+            step("room-detail", () -> eventService.getEventRoomInfo(roomId));
+        } catch (Exception e) {
+            log.error("Error re-warming room detail {} - Error: {}", roomId, e.getMessage());
+        }
+    }
+
+    private void step(String name, Runnable task) {
+        Timer.builder("room.warmup.duration")
+                .description("방 예열 단계별 소요 시간")
+                .tag("step", name)
+                .register(meterRegistry)
+                .record(task);
+    }
+
+    // 스트림과 컨슈머 그룹을 미리 만들고 활성 방으로 등록해 첫 참여부터 바로 소비되도록 한다
+    private void prepareStream(Long roomId) {
+        streamGroups.ensureGroup(streamCodec.streamKey(roomId));
+        stringRedisTemplate.opsForSet().add(ACTIVE_ROOMS_KEY, String.valueOf(roomId));
+    }
+
+    // 커넥션 풀에서 연결을 한 번씩 꺼내 써서 첫 요청이 연결 수립 비용을 내지 않도록 한다
+    private void pingConnections() {
+        jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+        stringRedisTemplate.execute(RedisConnection::ping);
+    }
+
+    // 예열 대상 방은 정리(RELEASED) 전까지만 남으므로 조회 시 세어도 비용이 작다
+    private void registerStateGauge(String state, int value) {
+        Gauge.builder("room.warmup.rooms", readinessByRoom,
+                        rooms -> rooms.values().stream().filter(readiness -> readiness.get() == value).count())
+                .description("예열 상태별 방 수")
+                .tag("state", state)
+                .register(meterRegistry);
+    }
+
+    private void removeReadiness(Long roomId) {
+        readinessByRoom.remove(roomId);
+    }
+}
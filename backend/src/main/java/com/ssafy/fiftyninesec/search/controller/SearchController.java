@@ -3,10 +3,15 @@ package com.ssafy.fiftyninesec.search.controller;
 import com.ssafy.fiftyninesec.search.dto.EventRoomSearchRequestDto;
 import com.ssafy.fiftyninesec.search.dto.EventRoomSearchResponseDto;
 import com.ssafy.fiftyninesec.search.dto.EventRoomSearchResponseWrapper;
+import com.ssafy.fiftyninesec.search.dto.TrendingKeywordDto;
 import com.ssafy.fiftyninesec.search.entity.EventRoomSearch;
+import com.ssafy.fiftyninesec.search.service.AutocompleteService;
 import com.ssafy.fiftyninesec.search.service.LogService;
+import com.ssafy.fiftyninesec.search.service.SearchReindexer;
 import com.ssafy.fiftyninesec.search.service.SearchService;
+import com.ssafy.fiftyninesec.search.service.TrendingKeywordTracker;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -19,15 +24,22 @@ public class SearchController {
 
     private final SearchService searchService;
     private final LogService logService;
+    private final SearchReindexer searchReindexer;
+    private final AutocompleteService autocompleteService;
+    private final TrendingKeywordTracker trendingKeywordTracker;
 
     @GetMapping("/eventrooms")
     public ResponseEntity<EventRoomSearchResponseWrapper> searchEventRooms(
             @ModelAttribute EventRoomSearchRequestDto requestDto,
             @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size) {
-        logService.logSearch(requestDto.getKeyword(), requestDto.getMemberId()); // 검색 로그 기록
+        logService.logSearch(requestDto.getKeyword(), requestDto.getMemberId()); // 검색 로그는 큐에만 넣고 수집 스레드가 반영
 
-        EventRoomSearchResponseWrapper responseWrapper = searchService.searchEventRooms(requestDto, page, size);
+        // 이전 응답의 nextCursor 가 있으면 search_after 로, 없으면 기존 페이지 번호로 조회
+        EventRoomSearchResponseWrapper responseWrapper = cursor == null
+                ? searchService.searchEventRooms(requestDto, page, size)
+                : searchService.searchEventRoomsByCursor(requestDto, cursor, size);
 
         // 응답 반환
         return ResponseEntity.ok(responseWrapper);
@@ -38,12 +50,23 @@ public class SearchController {
             @RequestParam String keyword,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
-        List<String> suggestions = searchService.autocomplete(keyword, page, size);
+        List<String> suggestions = autocompleteService.autocomplete(keyword, page, size);
         return suggestions.isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(suggestions);
     }
+
+    // 최근 1시간(1h) / 24시간(24h) 인기 검색어 (DB 조회 없이 메모리 집계로 응답)
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingKeywordDto>> trending(
+            @RequestParam(defaultValue = "1h") String window,
+            @RequestParam(defaultValue = "10") int size) {
+        List<TrendingKeywordDto> keywords = trendingKeywordTracker.top(TrendingKeywordTracker.Window.from(window), size);
+        return keywords.isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(keywords);
+    }
+
+    // 무중단 재색인을 백그라운드로 시작 (이미 실행 중이면 409)
     @GetMapping("/synchronize")
     public ResponseEntity<Void> synchronize() {
-        searchService.synchronizeData();
-        return ResponseEntity.ok().build();
+        boolean started = searchReindexer.triggerAsync();
+        return started ? ResponseEntity.accepted().build() : ResponseEntity.status(HttpStatus.CONFLICT).build();
     }
 }
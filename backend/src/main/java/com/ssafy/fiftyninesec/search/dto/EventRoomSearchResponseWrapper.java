@@ -11,4 +11,5 @@ public class EventRoomSearchResponseWrapper {
     private int currentPage;
     private boolean hasFirst;
     private boolean hasNext;
+    private String nextCursor; // 커서 기반 다음 페이지 요청에 그대로 전달 (마지막 페이지면 null)
 }
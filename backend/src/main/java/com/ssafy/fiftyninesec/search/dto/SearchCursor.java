@@ -0,0 +1,7 @@
+package com.ssafy.fiftyninesec.search.dto;
+
+import java.util.List;
+
+// 검색 결과 커서: 마지막 문서의 ES 정렬 값(search_after) + 지금까지 내려간 결과 수 (순위 계산용)
+public record SearchCursor(List<Object> sortValues, int offset) {
+}
@@ -0,0 +1,7 @@
+package com.ssafy.fiftyninesec.search.dto;
+
+import java.time.LocalDateTime;
+
+// 검색 로그 수집 큐에 쌓이는 검색 한 건 (SearchLog 테이블의 한 행)
+public record SearchLogRecord(String word, Long memberId, LocalDateTime searchedAt) {
+}
@@ -0,0 +1,11 @@
+package com.ssafy.fiftyninesec.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TrendingKeywordDto {
+    private String keyword;
+    private long count; // 구간 내 추정 검색 수 (count-min sketch 추정값이라 실제보다 약간 클 수 있음)
+}
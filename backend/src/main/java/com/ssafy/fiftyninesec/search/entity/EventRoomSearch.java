@@ -11,7 +11,8 @@ import org.springframework.data.elasticsearch.core.suggest.Completion;
 import java.time.LocalDateTime;
 
 @Data
-@Document(indexName = "eventrooms")
+// eventrooms 는 별칭이며 실제 인덱스는 SearchReindexer 가 버전별로 만든다
+@Document(indexName = "eventrooms", createIndex = false)
 public class EventRoomSearch {
 
     @Id
@@ -41,8 +42,15 @@ public class EventRoomSearch {
 
     private String enterCode;
 
+    // 잠금해제 시 부분 업데이트로 갱신 (SearchUnlockCountUpdater)
     private int unlockCount;
 
+    // 검색 결과에 바로 쓰도록 1등 상품명과 상품 수를 함께 색인
+    @Field(type = FieldType.Keyword, index = false)
+    private String mainPrize;
+
+    private int prizeCount;
+
     private String bannerImage;
 
     private String squareImage;
@@ -5,7 +5,7 @@ import lombok.Data;
 
 @Data
 @Entity
-@Table(name = "Keyword")
+@Table(name = "Keyword", uniqueConstraints = @UniqueConstraint(name = "uk_keyword_word", columnNames = "word"))
 public class Keyword {
 
     @Id
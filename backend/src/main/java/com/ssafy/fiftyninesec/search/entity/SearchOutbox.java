@@ -0,0 +1,34 @@
+package com.ssafy.fiftyninesec.search.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// Elasticsearch 반영 대기 행 (방 변경과 같은 트랜잭션에 기록, SearchOutboxRelay 가 반영 후 삭제)
+@Entity
+@Table(name = "SearchOutbox")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public static SearchOutbox of(Long roomId) {
+        return SearchOutbox.builder()
+                .roomId(roomId)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.ssafy.fiftyninesec.search.event;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import static com.ssafy.fiftyninesec.global.constants.RedisConstants.SEARCH_INDEX_CHANGED_CHANNEL;
+import static com.ssafy.fiftyninesec.global.constants.RedisConstants.SEARCH_INDEX_VERSION_KEY;
+
+// 검색 인덱스 변경 시 Redis 의 인덱스 버전을 올리고 채널로 모든 노드에 알린다
+// 수신한 노드는 SearchIndexChangedEvent 로 로컬 캐시를 비우고, 검색 결과 캐시는 버전이 다른 항목을 쓰지 않는다
+// outbox 배치는 한 노드만 처리하므로(SKIP LOCKED) 다른 노드의 캐시도 이 채널로만 무효화된다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexChangeNotifier implements MessageListener {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(SEARCH_INDEX_CHANGED_CHANNEL));
+    }
+
+    // 인덱스 버전을 올리고 모든 노드에 알린다 (호출 전에 변경이 검색에 보이도록 refresh 되어 있어야 한다)
+    // 잠금해제 수 같은 부분 갱신은 버전을 올리지 않는다 (검색 결과 캐시 TTL 만큼 늦게 보일 수 있음)
+    public void publishDocumentsChanged() {
+        stringRedisTemplate.opsForValue().increment(SEARCH_INDEX_VERSION_KEY);
+        stringRedisTemplate.convertAndSend(SEARCH_INDEX_CHANGED_CHANNEL, "1");
+    }
+
+    // 검색 결과 캐시가 항목에 붙이는 인덱스 버전 (Redis 장애 시 null)
+    public Long currentVersion() {
+        try {
+            String version = stringRedisTemplate.opsForValue().get(SEARCH_INDEX_VERSION_KEY);
+            return version == null ? 0L : Long.parseLong(version);
+        } catch (Exception e) {
+            log.warn("Failed to read search index version - Error: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        eventPublisher.publishEvent(new SearchIndexChangedEvent());
+    }
+}
@@ -0,0 +1,5 @@
+package com.ssafy.fiftyninesec.search.event;
+
+// 검색 인덱스 문서가 추가/교체/삭제되어(outbox 반영, 별칭 교체) 노드 로컬 검색 캐시를 버려야 할 때 발행되는 애플리케이션 이벤트
+public record SearchIndexChangedEvent() {
+}
@@ -0,0 +1,17 @@
+package com.ssafy.fiftyninesec.search.repository;
+
+import com.ssafy.fiftyninesec.search.entity.SearchOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SearchOutboxRepository extends JpaRepository<SearchOutbox, Long> {
+
+    // 여러 노드의 릴레이가 같은 행을 동시에 처리하지 않도록 잠긴 행은 건너뛴다
+    @Query(value = "SELECT * FROM search_outbox ORDER BY outbox_id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<SearchOutbox> findBatchForUpdate(@Param("limit") int limit);
+}
@@ -0,0 +1,121 @@
+package com.ssafy.fiftyninesec.search.service;
+
+import co.elastic.clients.elasticsearch.core.search.FieldSuggester;
+import co.elastic.clients.elasticsearch.core.search.Suggester;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.fiftyninesec.search.entity.EventRoomSearch;
+import com.ssafy.fiftyninesec.search.event.SearchIndexChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.suggest.response.Suggest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+// titleCompletion(completion suggester, 메모리 FST) 기반 자동완성
+// 키 입력마다 들어오는 요청이라 자주 쓰이는 접두사는 노드 로컬 캐시에서 바로 응답하고,
+// 인덱스 내용이 바뀌면(SearchIndexChangedEvent) 캐시를 통째로 비운다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutocompleteService {
+
+    private static final String CACHE_NAME = "search.autocomplete";
+    private static final String SUGGESTION_NAME = "title-suggest";
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${search.autocomplete.cache.max-size:20000}")
+    private long cacheMaxSize;
+
+    @Value("${search.autocomplete.cache.ttl-seconds:60}")
+    private long cacheTtlSeconds;
+
+    @Value("${search.autocomplete.max-suggestions:50}")
+    private int maxSuggestions;
+
+    // 접두사 -> 중복 제거된 제목 목록 (최대 maxSuggestions 건, 페이지는 여기서 잘라낸다)
+    private Cache<String, List<String>> prefixCache;
+
+    @PostConstruct
+    void init() {
+        prefixCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, prefixCache, CACHE_NAME);
+    }
+
+    public List<String> autocomplete(String keyword, int page, int size) {
+        String prefix = normalize(keyword);
+        if (prefix.isEmpty() || page < 0 || size <= 0) {
+            return Collections.emptyList();
+        }
+
+        int from = page * size;
+        if (from >= maxSuggestions) {
+            return Collections.emptyList();
+        }
+
+        List<String> suggestions = prefixCache.get(prefix, this::suggest);
+        return suggestions.subList(Math.min(from, suggestions.size()), Math.min(from + size, suggestions.size()));
+    }
+
+    @EventListener
+    public void onSearchIndexChanged(SearchIndexChangedEvent event) {
+        prefixCache.invalidateAll();
+    }
+
+// -----------------------------------------------------------------------------------------------------
+
+    // completion suggester 는 analyzer(simple)가 소문자화하므로 캐시 키도 소문자 + 공백 정리로 맞춘다
+    private String normalize(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        return keyword.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private List<String> suggest(String prefix) {
+        NativeQuery query = NativeQuery.builder()
+                .withSuggester(Suggester.of(suggester -> suggester
+                        .suggesters(SUGGESTION_NAME, FieldSuggester.of(field -> field
+                                .prefix(prefix)
+                                .completion(completion -> completion
+                                        .field("titleCompletion")
+                                        .size(maxSuggestions)
+                                        .skipDuplicates(true))))))
+                .withMaxResults(0)
+                .build();
+
+        SearchHits<EventRoomSearch> searchHits = elasticsearchOperations.search(query, EventRoomSearch.class);
+        Suggest suggest = searchHits.getSuggest();
+        if (suggest == null || suggest.getSuggestion(SUGGESTION_NAME) == null) {
+            return Collections.emptyList();
+        }
+
+        List<String> titles = new ArrayList<>();
+        for (Suggest.Suggestion.Entry<? extends Suggest.Suggestion.Entry.Option> entry
+                : suggest.getSuggestion(SUGGESTION_NAME).getEntries()) {
+            for (Suggest.Suggestion.Entry.Option option : entry.getOptions()) {
+                titles.add(option.getText());
+            }
+        }
+        return List.copyOf(titles);
+    }
+}
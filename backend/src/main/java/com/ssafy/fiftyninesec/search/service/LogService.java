@@ -1,36 +1,204 @@
 package com.ssafy.fiftyninesec.search.service;
 
-import com.ssafy.fiftyninesec.search.entity.Keyword;
-import com.ssafy.fiftyninesec.search.entity.SearchLog;
-import com.ssafy.fiftyninesec.search.repository.KeywordRepository;
-import com.ssafy.fiftyninesec.search.repository.SearchLogRepository;
+import com.ssafy.fiftyninesec.global.util.WorkerThreads;
+import com.ssafy.fiftyninesec.search.dto.SearchLogRecord;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 
+// 검색 로그 수집기: 요청 스레드는 큐에 넣기만 하고, 수집 스레드가 주기마다 모아서 DB 에 반영한다
+// 키워드별 검색 수는 메모리에서 합산해 upsert(search_count = search_count + ?) 한 번으로, SearchLog 는 배치 INSERT 로 쓴다
+// 분석용 데이터라 큐가 가득 차거나 반영에 실패한 로그는 버리고 지표로만 남긴다
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class LogService {
 
-    private final KeywordRepository keywordRepository;
-    private final SearchLogRepository searchLogRepository;
+    private static final int MAX_WORD_LENGTH = 255;
 
+    private static final String UPSERT_KEYWORD_SQL =
+            "INSERT INTO keyword (word, search_count) VALUES (?, ?) " +
+            "ON DUPLICATE KEY UPDATE search_count = search_count + ?";
+    private static final String SELECT_KEYWORD_IDS_SQL =
+            "SELECT keyword_id, word FROM keyword WHERE word IN (:words)";
+    private static final String INSERT_SEARCH_LOG_SQL =
+            "INSERT INTO search_log (member_id, keyword_id, searched_at) VALUES (?, ?, ?)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final WorkerThreads workerThreads;
+    private final TrendingKeywordTracker trendingKeywordTracker;
+
+    @Value("${search.log.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    @Value("${search.log.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${search.log.buffer-capacity:50000}")
+    private int bufferCapacity;
+
+    private BlockingQueue<SearchLogRecord> buffer;
+    private volatile boolean running;
+    private Thread collector;
+
+    private Timer flushTimer;
+    private Counter flushedLogs;
+    private Counter droppedLogs;
+    private Counter failedFlushes;
+
+    @PostConstruct
+    void init() {
+        buffer = new ArrayBlockingQueue<>(bufferCapacity);
+
+        flushTimer = Timer.builder("search.log.flush")
+                .description("검색 로그 배치 반영 소요 시간")
+                .register(meterRegistry);
+        flushedLogs = Counter.builder("search.log.rows")
+                .description("DB 에 반영된 검색 로그 수")
+                .register(meterRegistry);
+        droppedLogs = Counter.builder("search.log.dropped")
+                .description("큐가 가득 차거나 반영에 실패해 버려진 검색 로그 수")
+                .register(meterRegistry);
+        failedFlushes = Counter.builder("search.log.failures")
+                .description("실패한 검색 로그 배치 반영 수")
+                .register(meterRegistry);
+        Gauge.builder("search.log.backlog", buffer, Collection::size)
+                .description("DB 반영을 기다리는 검색 로그 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        collector = workerThreads.start("search-log-collector", this::runFlushLoop);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (collector != null) {
+            collector.interrupt();
+            try {
+                collector.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flushPending();
+    }
+
+    // 요청 스레드에서는 큐에 넣기만 한다 (DB 접근 없음)
     public void logSearch(String keywordStr, Long memberId) {
-        Keyword keyword = keywordRepository.findByWord(keywordStr);
-        if (keyword == null) {
-            keyword = new Keyword();
-            keyword.setWord(keywordStr);
-            keyword.setSearchCount(1);
-        } else {
-            keyword.setSearchCount(keyword.getSearchCount() + 1);
+        String word = normalize(keywordStr);
+        if (word.isEmpty()) {
+            return;
+        }
+        if (!buffer.offer(new SearchLogRecord(word, memberId, LocalDateTime.now()))) {
+            droppedLogs.increment();
+        }
+    }
+
+// -----------------------------------------------------------------------------------------------------
+
+    private void runFlushLoop() {
+        while (running) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(flushIntervalMs);
+            } catch (InterruptedException e) {
+                running = false;
+            }
+            flushPending();
+        }
+    }
+
+    private void flushPending() {
+        List<SearchLogRecord> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void flush(List<SearchLogRecord> batch) {
+        Map<String, Integer> counts = aggregate(batch);
+        // 인기 검색어 집계는 메모리에서 처리하므로 DB 반영 성공 여부와 무관하게 먼저 반영
+        trendingKeywordTracker.record(counts);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<String, Long> keywordIds = upsertKeywords(counts);
+                insertSearchLogs(batch, keywordIds);
+            });
+            flushedLogs.increment(batch.size());
+        } catch (Exception e) {
+            failedFlushes.increment();
+            droppedLogs.increment(batch.size());
+            log.error("Failed to flush {} search logs - Error: {}", batch.size(), e.getMessage());
+        } finally {
+            sample.stop(flushTimer);
+        }
+    }
+
+    // 같은 주기 안의 같은 키워드는 한 행으로 합산
+    // 키 정렬 순서로 upsert 해 여러 노드가 겹치는 키워드를 동시에 반영해도 같은 순서로 행 잠금을 잡는다 (교착 방지)
+    private Map<String, Integer> aggregate(List<SearchLogRecord> batch) {
+        Map<String, Integer> counts = new TreeMap<>();
+        for (SearchLogRecord record : batch) {
+            counts.merge(record.word(), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    // 키워드별 증가분을 upsert 하고 SearchLog 에 쓸 keyword_id 를 한 번에 조회
+    private Map<String, Long> upsertKeywords(Map<String, Integer> counts) {
+        List<Object[]> args = new ArrayList<>(counts.size());
+        counts.forEach((word, count) -> args.add(new Object[]{word, count, count}));
+        jdbcTemplate.getJdbcTemplate().batchUpdate(UPSERT_KEYWORD_SQL, args);
+
+        // MySQL 기본 collation 은 대소문자를 구분하지 않으므로 키워드 조회도 같은 기준으로 맞춘다
+        Map<String, Long> keywordIds = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        jdbcTemplate.query(SELECT_KEYWORD_IDS_SQL, new MapSqlParameterSource("words", counts.keySet()),
+                (RowCallbackHandler) rs -> keywordIds.put(rs.getString("word"), rs.getLong("keyword_id")));
+        return keywordIds;
+    }
+
+    private void insertSearchLogs(List<SearchLogRecord> batch, Map<String, Long> keywordIds) {
+        List<Object[]> args = new ArrayList<>(batch.size());
+        for (SearchLogRecord record : batch) {
+            args.add(new Object[]{record.memberId(), keywordIds.get(record.word()), Timestamp.valueOf(record.searchedAt())});
         }
-        keywordRepository.save(keyword);
+        jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_SEARCH_LOG_SQL, args);
+    }
 
-        SearchLog searchLog = new SearchLog();
-        searchLog.setKeyword(keyword);
-        searchLog.setMemberId(memberId);
-        searchLog.setSearchedAt(LocalDateTime.now());
-        searchLogRepository.save(searchLog);
+    // 인기 검색어(TrendingKeywordTracker)·검색 결과 캐시와 같은 기준(공백 정리 + 소문자)으로 맞춰 "Java"와 "java"를 한 키워드로 센다
+    private String normalize(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        String word = keyword.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return word.length() > MAX_WORD_LENGTH ? word.substring(0, MAX_WORD_LENGTH) : word;
     }
-}
\ No newline at end of file
+}
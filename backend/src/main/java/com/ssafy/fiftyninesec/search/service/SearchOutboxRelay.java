@@ -0,0 +1,159 @@
+package com.ssafy.fiftyninesec.search.service;
+
+import com.ssafy.fiftyninesec.search.entity.EventRoomSearch;
+import com.ssafy.fiftyninesec.search.entity.SearchOutbox;
+import com.ssafy.fiftyninesec.search.event.SearchIndexChangeNotifier;
+import com.ssafy.fiftyninesec.search.repository.EventRoomSearchRepository;
+import com.ssafy.fiftyninesec.search.repository.SearchOutboxRepository;
+import com.ssafy.fiftyninesec.solution.entity.EventRoom;
+import com.ssafy.fiftyninesec.solution.repository.EventRoomRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// search_outbox 행을 모아 Elasticsearch 에 bulk 로 반영하는 릴레이
+// 방 단위로 MySQL 의 현재 상태를 다시 읽어 문서 ID(roomId)로 덮어쓰므로 같은 행을 여러 번 처리해도 결과가 같다(멱등)
+// 실패하면 행을 남겨 두고 지수 백오프 후 다시 시도
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchOutboxRelay {
+
+    private final SearchOutboxRepository outboxRepository;
+    private final EventRoomRepository eventRoomRepository;
+    private final EventRoomSearchRepository eventRoomSearchRepository;
+    private final SearchService searchService;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final SearchReindexer searchReindexer;
+    private final SearchIndexChangeNotifier indexChangeNotifier;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${search.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${search.outbox.max-backoff-ms:30000}")
+    private long maxBackoffMs;
+
+    @Value("${search.outbox.poll-ms:500}")
+    private long pollMs;
+
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final AtomicLong backlog = new AtomicLong();
+
+    private Timer relayTimer;
+    private Counter relayedRooms;
+    private Counter failures;
+
+    private int consecutiveFailures;
+    private long nextAttemptAt;
+
+    @PostConstruct
+    void initMetrics() {
+        relayTimer = Timer.builder("search.outbox.relay")
+                .description("outbox 배치 하나를 Elasticsearch 에 반영하는 시간")
+                .register(meterRegistry);
+        relayedRooms = Counter.builder("search.outbox.rooms")
+                .description("Elasticsearch 에 반영한 방 수")
+                .register(meterRegistry);
+        failures = Counter.builder("search.outbox.failures")
+                .description("Elasticsearch 반영 실패 횟수")
+                .register(meterRegistry);
+        Gauge.builder("search.outbox.lag.seconds", lagMillis, lag -> lag.get() / 1000.0)
+                .description("가장 오래된 미반영 변경이 기다린 시간 (검색이 MySQL 보다 뒤처진 정도)")
+                .register(meterRegistry);
+        Gauge.builder("search.outbox.backlog", backlog, AtomicLong::get)
+                .description("Elasticsearch 반영을 기다리는 outbox 행 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${search.outbox.poll-ms:500}")
+    public void relay() {
+        if (System.currentTimeMillis() < nextAttemptAt) {
+            return;
+        }
+
+        try {
+            int relayed;
+            int total = 0;
+            do {
+                relayed = Objects.requireNonNull(transactionTemplate.execute(status -> relayBatch()));
+                total += relayed;
+            } while (relayed >= batchSize);
+
+            // 커밋된 변경이 있을 때만 검색에 보이도록 refresh 한 뒤 인덱스 버전을 올려 모든 노드의 검색 캐시를 무효화
+            if (total > 0) {
+                elasticsearchOperations.indexOps(IndexCoordinates.of(SearchReindexer.ALIAS)).refresh();
+                indexChangeNotifier.publishDocumentsChanged();
+            }
+
+            consecutiveFailures = 0;
+            backlog.set(outboxRepository.count());
+            if (backlog.get() == 0) {
+                lagMillis.set(0);
+            }
+        } catch (Exception e) {
+            failures.increment();
+            consecutiveFailures++;
+            long backoff = Math.min(maxBackoffMs, pollMs << Math.min(consecutiveFailures, 10));
+            nextAttemptAt = System.currentTimeMillis() + backoff;
+            log.error("Error relaying search outbox - retry in {}ms - Error: {}", backoff, e.getMessage());
+        }
+    }
+
+// -----------------------------------------------------------------------------------------------------
+
+    // 잠근 outbox 행을 반영하고 같은 트랜잭션에서 삭제 (ES 실패 시 롤백되어 행이 남는다)
+    private int relayBatch() {
+        List<SearchOutbox> rows = outboxRepository.findBatchForUpdate(batchSize);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime oldest = rows.get(0).getCreatedAt();
+        lagMillis.set(Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()));
+
+        Set<Long> roomIds = rows.stream()
+                .map(SearchOutbox::getRoomId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        relayTimer.record(() -> index(roomIds));
+        outboxRepository.deleteAllInBatch(rows);
+        relayedRooms.increment(roomIds.size());
+        return rows.size();
+    }
+
+    private void index(Set<Long> roomIds) {
+        List<EventRoom> rooms = eventRoomRepository.findAllById(roomIds);
+        List<EventRoomSearch> documents = searchService.toDocuments(rooms);
+        if (!documents.isEmpty()) {
+            eventRoomSearchRepository.saveAll(documents);
+            // 재색인 중이면 새 인덱스에도 반영해 별칭 교체 후 변경이 사라지지 않도록 한다
+            searchReindexer.buildingIndex()
+                    .ifPresent(index -> elasticsearchOperations.save(documents, IndexCoordinates.of(index)));
+        }
+
+        // MySQL 에서 사라진 방은 인덱스에서도 제거
+        Set<Long> missing = new HashSet<>(roomIds);
+        rooms.forEach(room -> missing.remove(room.getId()));
+        for (Long roomId : missing) {
+            elasticsearchOperations.delete(String.valueOf(roomId), EventRoomSearch.class);
+        }
+    }
+}
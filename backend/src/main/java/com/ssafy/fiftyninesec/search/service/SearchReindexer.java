@@ -0,0 +1,203 @@
+package com.ssafy.fiftyninesec.search.service;
+
+import com.ssafy.fiftyninesec.global.util.WorkerThreads;
+import com.ssafy.fiftyninesec.search.entity.EventRoomSearch;
+import com.ssafy.fiftyninesec.search.event.SearchIndexChangeNotifier;
+import com.ssafy.fiftyninesec.solution.entity.EventRoom;
+import com.ssafy.fiftyninesec.solution.repository.EventRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 무중단 재색인: 새 버전 인덱스(eventrooms_yyyyMMddHHmmss_{임의 접미사})에 MySQL 방을 키셋 페이지 단위로 bulk 적재한 뒤
+// eventrooms 별칭을 한 번의 alias 요청으로 새 인덱스로 옮기고 이전 인덱스를 제거한다
+// 재색인 중에는 SearchOutboxRelay 가 새 인덱스에도 함께 쓰고, 재색인은 op_type=create 로 써서 더 최신인 문서를 덮어쓰지 않는다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchReindexer {
+
+    public static final String ALIAS = "eventrooms";
+    private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final int VERSION_CONFLICT = 409;
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final EventRoomRepository eventRoomRepository;
+    private final SearchService searchService;
+    private final SearchIndexChangeNotifier indexChangeNotifier;
+    private final WorkerThreads workerThreads;
+
+    @Value("${search.reindex.chunk-size:1000}")
+    private int chunkSize;
+
+    // 켜 두면 재시작하는 모든 노드가 각자 재색인하므로 기본은 끄고, 필요할 때 한 노드에서만 켜거나 수동으로 실행한다
+    @Value("${search.reindex.on-startup:false}")
+    private boolean reindexOnStartup;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile String buildingIndex;
+
+    // 시작 경로를 막지 않도록 별도 스레드에서 실행 (검색은 그동안 기존 인덱스로 응답)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        ensureAliasExists();
+        if (reindexOnStartup) {
+            triggerAsync();
+        }
+    }
+
+    // 이미 실행 중이면 false
+    public boolean triggerAsync() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        workerThreads.start("search-reindex", () -> {
+            try {
+                reindex();
+            } catch (Exception e) {
+                log.error("Error reindexing event rooms - Error: {}", e.getMessage());
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    // 재색인 중인 새 인덱스 (outbox 릴레이의 이중 쓰기 대상)
+    public Optional<String> buildingIndex() {
+        return Optional.ofNullable(buildingIndex);
+    }
+
+// -----------------------------------------------------------------------------------------------------
+
+    private void reindex() {
+        String newIndex = newIndexName();
+        IndexCoordinates target = IndexCoordinates.of(newIndex);
+        createIndex(target);
+        buildingIndex = newIndex;
+
+        try {
+            long started = System.currentTimeMillis();
+            long indexed = streamRooms(target);
+            elasticsearchOperations.indexOps(target).refresh();
+            swapAlias(newIndex);
+            indexChangeNotifier.publishDocumentsChanged();
+            log.info("------ Elasticsearch Reindex ------ index: {}, rooms: {}, took: {}ms",
+                    newIndex, indexed, System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            elasticsearchOperations.indexOps(target).delete();
+            throw e;
+        } finally {
+            buildingIndex = null;
+        }
+    }
+
+    // 여러 노드가 같은 초에 만들어도 이름이 겹치지 않도록 임의 접미사를 붙인다
+    private String newIndexName() {
+        return ALIAS + "_" + LocalDateTime.now().format(VERSION_FORMAT)
+                + "_" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private void createIndex(IndexCoordinates target) {
+        IndexOperations entityOps = elasticsearchOperations.indexOps(EventRoomSearch.class);
+        elasticsearchOperations.indexOps(target).create(entityOps.createSettings(), entityOps.createMapping());
+    }
+
+    // 방 전체를 힙에 올리지 않고 id 기준 키셋 페이지로 읽어 bulk 적재
+    private long streamRooms(IndexCoordinates target) {
+        long lastId = 0;
+        long indexed = 0;
+
+        while (true) {
+            List<EventRoom> chunk = eventRoomRepository.findChunkAfter(lastId, PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) {
+                return indexed;
+            }
+
+            List<IndexQuery> queries = new ArrayList<>(chunk.size());
+            for (EventRoomSearch document : searchService.toDocuments(chunk)) {
+                queries.add(new IndexQueryBuilder()
+                        .withId(String.valueOf(document.getRoomId()))
+                        .withObject(document)
+                        .withOpType(IndexQuery.OpType.CREATE)
+                        .build());
+            }
+            bulkCreate(queries, target);
+
+            indexed += chunk.size();
+            lastId = chunk.get(chunk.size() - 1).getId();
+        }
+    }
+
+    // 이중 쓰기로 이미 들어온(더 최신) 문서와의 충돌은 무시
+    private void bulkCreate(List<IndexQuery> queries, IndexCoordinates target) {
+        try {
+            elasticsearchOperations.bulkIndex(queries, target);
+        } catch (BulkFailureException e) {
+            boolean onlyConflicts = e.getFailedDocuments().values().stream()
+                    .allMatch(failure -> failure.status() != null && failure.status() == VERSION_CONFLICT);
+            if (!onlyConflicts) {
+                throw e;
+            }
+        }
+    }
+
+    // 별칭 이동과 이전 인덱스 제거를 한 요청으로 처리해 검색이 비는 순간이 없다
+    private void swapAlias(String newIndex) {
+        List<AliasAction> actions = new ArrayList<>();
+        actions.add(new AliasAction.Add(AliasActionParameters.builder()
+                .withIndices(newIndex)
+                .withAliases(ALIAS)
+                .build()));
+        for (String oldIndex : indicesBehindAlias()) {
+            actions.add(new AliasAction.RemoveIndex(AliasActionParameters.builder()
+                    .withIndices(oldIndex)
+                    .build()));
+        }
+
+        elasticsearchOperations.indexOps(IndexCoordinates.of(newIndex))
+                .alias(new AliasActions(actions.toArray(AliasAction[]::new)));
+    }
+
+    // 별칭이 가리키는 인덱스들, 예전 방식으로 만든 실제 인덱스 eventrooms 가 있으면 그것
+    private Set<String> indicesBehindAlias() {
+        IndexOperations aliasOps = elasticsearchOperations.indexOps(IndexCoordinates.of(ALIAS));
+        if (!aliasOps.exists()) {
+            return Set.of();
+        }
+        Set<String> indices = aliasOps.getAliases(ALIAS).keySet();
+        return indices.isEmpty() ? Set.of(ALIAS) : indices;
+    }
+
+    // 처음 뜨는 환경이면 빈 버전 인덱스와 별칭을 바로 만들어 재색인 전에도 검색이 실패하지 않도록 한다
+    private void ensureAliasExists() {
+        if (elasticsearchOperations.indexOps(IndexCoordinates.of(ALIAS)).exists()) {
+            return;
+        }
+        String initialIndex = newIndexName();
+        createIndex(IndexCoordinates.of(initialIndex));
+        swapAlias(initialIndex);
+    }
+}
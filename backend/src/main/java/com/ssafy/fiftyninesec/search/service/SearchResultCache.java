@@ -0,0 +1,77 @@
+package com.ssafy.fiftyninesec.search.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.fiftyninesec.search.dto.EventRoomSearchResponseWrapper;
+import com.ssafy.fiftyninesec.search.event.SearchIndexChangeNotifier;
+import com.ssafy.fiftyninesec.search.event.SearchIndexChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+// 검색 결과 노드 로컬 캐시 (키 = 인덱스 버전 + 정규화한 키워드 + 페이지 또는 커서)
+// 매 조회마다 Redis 의 인덱스 버전을 읽어 키에 넣으므로, ES 반영 후 버전이 오르면 이전 결과는 다시 쓰이지 않는다
+// 버전을 읽지 못하면(Redis 장애) 캐시를 건너뛰고 바로 조회한다
+// 잠금해제 수 부분 갱신은 버전을 올리지 않으므로 결과의 unlockCount 는 최대 TTL 만큼 늦을 수 있다
+@Component
+public class SearchResultCache {
+
+    private static final String CACHE_NAME = "search.result";
+
+    private final SearchIndexChangeNotifier indexChangeNotifier;
+    private final Cache<String, EventRoomSearchResponseWrapper> cache;
+
+    public SearchResultCache(SearchIndexChangeNotifier indexChangeNotifier,
+                             MeterRegistry meterRegistry,
+                             @Value("${search.result-cache.max-size:10000}") long maxSize,
+                             @Value("${search.result-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.indexChangeNotifier = indexChangeNotifier;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("search.result.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("검색 결과 캐시 적중률 (시작 이후 누적)")
+                .register(meterRegistry);
+    }
+
+    public EventRoomSearchResponseWrapper get(String keyword, int page, int size, Supplier<EventRoomSearchResponseWrapper> loader) {
+        return lookup(keyword, "p" + page, size, loader);
+    }
+
+    public EventRoomSearchResponseWrapper getByCursor(String keyword, String cursor, int size, Supplier<EventRoomSearchResponseWrapper> loader) {
+        return lookup(keyword, "c" + cursor, size, loader);
+    }
+
+    // 버전이 오르면 이전 항목은 어차피 쓰이지 않으므로 메모리를 바로 돌려준다
+    @EventListener
+    public void onSearchIndexChanged(SearchIndexChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+// -----------------------------------------------------------------------------------------------------
+
+    private EventRoomSearchResponseWrapper lookup(String keyword, String position, int size, Supplier<EventRoomSearchResponseWrapper> loader) {
+        Long version = indexChangeNotifier.currentVersion();
+        if (version == null || keyword == null || keyword.isBlank()) {
+            return loader.get();
+        }
+        return cache.get(key(version, keyword, position, size), key -> loader.get());
+    }
+
+    // 검색 analyzer 가 소문자화하고 공백으로 나누므로 대소문자와 공백 차이는 같은 결과
+    private String key(long version, String keyword, String position, int size) {
+        String normalized = keyword.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return version + "|" + position + "|" + size + "|" + normalized;
+    }
+}
@@ -1,56 +1,72 @@
 package com.ssafy.fiftyninesec.search.service;
 
+import com.ssafy.fiftyninesec.global.exception.CustomException;
+import com.ssafy.fiftyninesec.global.util.CursorCodec;
 import com.ssafy.fiftyninesec.search.dto.EventRoomSearchRequestDto;
 import com.ssafy.fiftyninesec.search.dto.EventRoomSearchResponseDto;
 import com.ssafy.fiftyninesec.search.dto.EventRoomSearchResponseWrapper;
+import com.ssafy.fiftyninesec.search.dto.SearchCursor;
 import com.ssafy.fiftyninesec.search.entity.EventRoomSearch;
-import com.ssafy.fiftyninesec.search.repository.EventRoomSearchRepository;
+import com.ssafy.fiftyninesec.solution.dto.PrizeSummary;
 import com.ssafy.fiftyninesec.solution.entity.EventRoom;
 import com.ssafy.fiftyninesec.solution.entity.Member;
-import com.ssafy.fiftyninesec.solution.repository.EventRoomRepository;
-import com.ssafy.fiftyninesec.solution.util.EventRoomUtils;
-import jakarta.annotation.PostConstruct;
+import com.ssafy.fiftyninesec.solution.repository.PrizeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.data.elasticsearch.core.query.Criteria;
 import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.Optional;
 
+import static com.ssafy.fiftyninesec.global.exception.ErrorCode.INVALID_REQUEST;
+
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class SearchService {
 
-    private final EventRoomSearchRepository eventRoomSearchRepository; // Elasticsearch 레포지토리
-    private final EventRoomRepository eventRoomRepository; // JPA 레포지토리
+    // 관련도 순, 같은 점수는 roomId 순 (search_after 커서가 항목을 건너뛰거나 중복하지 않도록 고유한 정렬)
+    private static final Sort SEARCH_SORT = Sort.by(Sort.Order.desc("_score"), Sort.Order.asc("roomId"));
+
+    private final PrizeRepository prizeRepository; // JPA 레포지토리
     private final ElasticsearchOperations elasticsearchOperations;
-    private final EventRoomUtils eventRoomUtils;
+    private final SearchResultCache searchResultCache;
+    private final CursorCodec cursorCodec;
 
-    // 애플리케이션 시작 시 데이터 동기화
-    @PostConstruct
-    public void synchronizeData() {
-        // 기존 인덱스 삭제
-        eventRoomSearchRepository.deleteAll();
+    // 여러 방을 상품 집계 쿼리 한 번으로 검색 문서로 변환
+    public List<EventRoomSearch> toDocuments(List<EventRoom> mysqlRooms) {
+        if (mysqlRooms.isEmpty()) {
+            return Collections.emptyList();
+        }
 
-        List<EventRoom> mysqlRooms = eventRoomRepository.findAll();
-        List<EventRoomSearch> esRooms = mysqlRooms.stream()
-                .map(this::convertToES)
-                .collect(Collectors.toList());
+        List<Long> roomIds = mysqlRooms.stream().map(EventRoom::getId).collect(Collectors.toList());
+        Map<Long, PrizeSummary> summaries = prizeRepository.findSummariesByRoomIds(roomIds).stream()
+                .collect(Collectors.toMap(PrizeSummary::roomId, summary -> summary));
 
-        esRooms.forEach(room -> room.setTitleCompletion(room.getTitle())); // titleCompletion 설정
-        eventRoomSearchRepository.saveAll(esRooms);
+        return mysqlRooms.stream()
+                .map(room -> convertToES(room, summaries.get(room.getId())))
+                .collect(Collectors.toList());
+    }
 
-        log.info("------ Elasticsearch Synchronization ------");
+    public EventRoomSearch convertToES(EventRoom mysqlRoom, PrizeSummary prizeSummary) {
+        EventRoomSearch esRoom = convertToES(mysqlRoom);
+        if (prizeSummary != null) {
+            esRoom.setMainPrize(prizeSummary.mainPrize());
+            esRoom.setPrizeCount(prizeSummary.prizeCount() == null ? 0 : prizeSummary.prizeCount().intValue());
+        }
+        return esRoom;
     }
 
     public EventRoomSearch convertToES(EventRoom mysqlRoom) {
@@ -63,6 +79,7 @@ public class SearchService {
         esRoom.setRoomId(mysqlRoom.getId());
         esRoom.setMemberId(memberId);
         esRoom.setTitle(mysqlRoom.getTitle());
+        esRoom.setTitleCompletion(mysqlRoom.getTitle());
         esRoom.setDescription(mysqlRoom.getDescription());
         esRoom.setStatus(mysqlRoom.getStatus().name());
         esRoom.setCreatedAt(mysqlRoom.getCreatedAt());
@@ -78,32 +95,63 @@ public class SearchService {
     }
 
 
+    // 같은 키워드가 몰려도 인덱스 버전이 같은 동안은 캐시된 결과로 응답
     public EventRoomSearchResponseWrapper searchEventRooms(EventRoomSearchRequestDto requestDto, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<EventRoomSearch> eventRoomsPage = eventRoomSearchRepository.findByTitle(requestDto.getKeyword(), pageable);
+        return searchResultCache.get(requestDto.getKeyword(), page, size,
+                () -> queryEventRooms(requestDto.getKeyword(), page, size));
+    }
 
-        int currentPage = eventRoomsPage.getNumber();
-        boolean hasFirst = eventRoomsPage.isFirst();
-        boolean hasNext = eventRoomsPage.hasNext();
+    // 커서 기반 검색: 이전 응답의 nextCursor 로 search_after 조회 (깊은 페이지도 from+size 스캔 없이 같은 비용)
+    public EventRoomSearchResponseWrapper searchEventRoomsByCursor(EventRoomSearchRequestDto requestDto, String cursor, int size) {
+        if (size <= 0) {
+            throw new CustomException(INVALID_REQUEST);
+        }
+        SearchCursor position = cursorCodec.decode(cursor, SearchCursor.class);
+        return searchResultCache.getByCursor(requestDto.getKeyword(), cursor, size,
+                () -> queryEventRoomsAfter(requestDto.getKeyword(), position, size));
+    }
 
-        List<EventRoomSearchResponseDto> responseDtos = eventRoomsPage.stream()
-                .map(eventRoom -> mapToResponseDto(eventRoom, eventRoomsPage))
-                .collect(Collectors.toList());
+// -----------------------------------------------------------------------------------------------------
+
+    private EventRoomSearchResponseWrapper queryEventRooms(String keyword, int page, int size) {
+        CriteriaQuery query = new CriteriaQuery(new Criteria("title").is(keyword), PageRequest.of(page, size, SEARCH_SORT));
+        SearchHits<EventRoomSearch> searchHits = elasticsearchOperations.search(query, EventRoomSearch.class);
 
-        return new EventRoomSearchResponseWrapper(responseDtos, currentPage, hasFirst, hasNext);
+        int offset = page * size;
+        List<SearchHit<EventRoomSearch>> hits = searchHits.getSearchHits();
+        boolean hasNext = offset + hits.size() < searchHits.getTotalHits();
+        return toWrapper(hits, offset, page, hasNext);
     }
 
-    private EventRoomSearchResponseDto mapToResponseDto(EventRoomSearch eventRoomSearch, Page<EventRoomSearch> eventRoomsPage) {
+    // size + 1 건을 읽어 다음 페이지 유무를 판단하고, 전체 건수는 세지 않는다
+    private EventRoomSearchResponseWrapper queryEventRoomsAfter(String keyword, SearchCursor position, int size) {
+        CriteriaQuery query = new CriteriaQuery(new Criteria("title").is(keyword), PageRequest.of(0, size + 1, SEARCH_SORT));
+        query.setSearchAfter(position.sortValues());
+        query.setTrackTotalHits(false);
+        SearchHits<EventRoomSearch> searchHits = elasticsearchOperations.search(query, EventRoomSearch.class);
+
+        List<SearchHit<EventRoomSearch>> hits = searchHits.getSearchHits();
+        boolean hasNext = hits.size() > size;
+        return toWrapper(hasNext ? hits.subList(0, size) : hits, position.offset(), position.offset() / size, hasNext);
+    }
 
-        Long eventId = eventRoomSearch.getRoomId();
-        EventRoom eventRoom = eventRoomRepository.findById(eventId)
-                .orElseThrow(() -> new RuntimeException("EventRoom not found for ID: " + eventId));
+    private EventRoomSearchResponseWrapper toWrapper(List<SearchHit<EventRoomSearch>> hits, int offset, int currentPage,
+                                                     boolean hasNext) {
+        List<EventRoomSearchResponseDto> responseDtos = new ArrayList<>(hits.size());
+        for (SearchHit<EventRoomSearch> hit : hits) {
+            responseDtos.add(mapToResponseDto(hit.getContent(), offset + responseDtos.size() + 1));
+        }
+
+        String nextCursor = hasNext && !hits.isEmpty()
+                ? cursorCodec.encode(new SearchCursor(hits.get(hits.size() - 1).getSortValues(), offset + hits.size()))
+                : null;
+        return new EventRoomSearchResponseWrapper(responseDtos, currentPage, offset == 0, hasNext, nextCursor);
+    }
 
-        String mainPrize = eventRoomUtils.getMainPrize(eventRoom);
-        int prizeCount = eventRoomUtils.getPrizeCount(eventId);
-        int ranking = eventRoomUtils.calculateRanking(eventRoomSearch, eventRoomsPage);
-        int unlockCount = eventRoom.getUnlockCount();
-        boolean isDeadline = eventRoom.getEndTime().isBefore(LocalDateTime.now().plusHours(24));
+    // 검색 결과는 인덱스 문서만으로 구성 (결과마다 MySQL 조회 없음)
+    private EventRoomSearchResponseDto mapToResponseDto(EventRoomSearch eventRoomSearch, int ranking) {
+        boolean isDeadline = eventRoomSearch.getEndTime() != null
+                && eventRoomSearch.getEndTime().isBefore(LocalDateTime.now().plusHours(24));
 
         return EventRoomSearchResponseDto.builder()
                 .eventId(eventRoomSearch.getRoomId())
@@ -113,27 +161,11 @@ public class SearchService {
                 .winnerNum(eventRoomSearch.getWinnerNum())
                 .bannerImage(eventRoomSearch.getBannerImage())
                 .rectangleImage(eventRoomSearch.getRectangleImage())
-                .mainPrize(mainPrize)
-                .prizeCount(prizeCount)
+                .mainPrize(eventRoomSearch.getMainPrize())
+                .prizeCount(eventRoomSearch.getPrizeCount())
                 .ranking(ranking)
-                .unlockCount(unlockCount)
+                .unlockCount(eventRoomSearch.getUnlockCount())
                 .isDeadline(isDeadline)
                 .build();
     }
-
-    public List<String> autocomplete(String keyword, int page, int size) {
-        // 검색 키워드에서 공백 제거
-        String processedKeyword = keyword.replace(" ", "");
-
-        // CriteriaQuery를 이용해 title 필드에 keyword 포함 여부를 확인하고 페이지네이션 추가
-        Criteria criteria = new Criteria("title").contains(processedKeyword);
-        Pageable pageable = PageRequest.of(page, size);
-        CriteriaQuery query = new CriteriaQuery(criteria, pageable);
-
-        SearchHits<EventRoomSearch> searchHits = elasticsearchOperations.search(query, EventRoomSearch.class);
-
-        return searchHits.stream()
-                .map(hit -> hit.getContent().getTitle())
-                .collect(Collectors.toList());
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,66 @@
+package com.ssafy.fiftyninesec.search.service;
+
+import com.ssafy.fiftyninesec.solution.event.UnlockCountsFlushedEvent;
+import com.ssafy.fiftyninesec.solution.service.PopularRoomIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.stereotype.Component;
+import org.springframework.context.event.EventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 잠금해제 수가 바뀐 방의 검색 문서에 unlockCount 만 부분 업데이트 (문서 전체 재색인 없음)
+// 값은 인기 순위 ZSET 의 실시간 절대값이라 여러 노드가 같은 방을 갱신해도 결과가 같다
+// 매초 갱신되므로 refresh 나 인덱스 버전 증가 없이 ES 주기적 refresh 와 검색 결과 캐시 TTL 에 맡긴다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchUnlockCountUpdater {
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final PopularRoomIndex popularRoomIndex;
+    private final SearchReindexer searchReindexer;
+
+    @EventListener
+    public void onUnlockCountsFlushed(UnlockCountsFlushedEvent event) {
+        List<UpdateQuery> updates = new ArrayList<>(event.roomIds().size());
+        for (Long roomId : event.roomIds()) {
+            Double score = popularRoomIndex.score(roomId);
+            if (score == null) {
+                continue;
+            }
+            updates.add(UpdateQuery.builder(String.valueOf(roomId))
+                    .withDocument(Document.create().append("unlockCount", score.intValue()))
+                    .build());
+        }
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        applyUpdates(updates, SearchReindexer.ALIAS);
+        // 재색인 중이면 새 인덱스에도 반영해 별칭 교체 후 잠금해제 수가 되돌아가지 않도록 한다
+        searchReindexer.buildingIndex().ifPresent(index -> applyUpdates(updates, index));
+    }
+
+// -----------------------------------------------------------------------------------------------------
+
+    private void applyUpdates(List<UpdateQuery> updates, String index) {
+        try {
+            elasticsearchOperations.bulkUpdate(updates, IndexCoordinates.of(index));
+        } catch (BulkFailureException e) {
+            // 실패한 문서만 건너뛴다 (아직 색인되지 않은 방은 document_missing, 색인될 때 최신 값이 들어간다)
+            log.warn("Skipped unlock count updates for {} of {} search documents - index: {} - Error: {}",
+                    e.getFailedDocuments().size(), updates.size(), index, e.getMessage());
+        } catch (Exception e) {
+            // 다음 잠금해제나 outbox 전체 반영 때 다시 맞춰진다
+            log.error("Error updating unlock counts in search index - index: {}, rooms: {} - Error: {}",
+                    index, updates.size(), e.getMessage());
+        }
+    }
+}
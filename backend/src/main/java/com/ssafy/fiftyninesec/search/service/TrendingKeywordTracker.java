@@ -0,0 +1,204 @@
+package com.ssafy.fiftyninesec.search.service;
+
+import com.ssafy.fiftyninesec.global.exception.CustomException;
+import com.ssafy.fiftyninesec.search.dto.TrendingKeywordDto;
+import com.ssafy.fiftyninesec.search.util.CountMinSketch;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.LongSupplier;
+
+import static com.ssafy.fiftyninesec.global.exception.ErrorCode.INVALID_REQUEST;
+
+// 검색 로그 스트림에서 최근 1시간 / 24시간 인기 검색어를 메모리로 집계하는 heavy-hitters 추적기
+// 구간을 시간 버킷 링으로 나누고, 버킷마다 count-min sketch(빈도 추정)와 상위 후보 K개만 둔다
+// 키워드 종류와 무관하게 메모리는 (버킷 수 x sketch 크기 + 후보 수)로 고정되고, 오래된 버킷은 재사용할 때 비운다
+// 노드마다 자기 노드로 들어온 검색만 집계한다 (로드밸런서 뒤에서는 전체의 표본)
+@Component
+public class TrendingKeywordTracker {
+
+    @Getter
+    public enum Window {
+        HOUR("1h", Duration.ofMinutes(5), 12),
+        DAY("24h", Duration.ofHours(1), 24);
+
+        private final String label;
+        private final long bucketMillis;
+        private final int bucketCount;
+
+        Window(String label, Duration bucket, int bucketCount) {
+            this.label = label;
+            this.bucketMillis = bucket.toMillis();
+            this.bucketCount = bucketCount;
+        }
+
+        public static Window from(String label) {
+            for (Window window : values()) {
+                if (window.label.equalsIgnoreCase(label)) {
+                    return window;
+                }
+            }
+            throw new CustomException(INVALID_REQUEST);
+        }
+    }
+
+    private final int candidatesPerBucket;
+    private final long snapshotMillis;
+    private final LongSupplier clock;
+
+    private final Map<Window, Bucket[]> rings = new EnumMap<>(Window.class);
+    private final Map<Window, Snapshot> snapshots = new EnumMap<>(Window.class);
+
+    @Autowired
+    public TrendingKeywordTracker(@Value("${search.trending.sketch-depth:4}") int sketchDepth,
+                                  @Value("${search.trending.sketch-width:2048}") int sketchWidth,
+                                  @Value("${search.trending.candidates-per-bucket:100}") int candidatesPerBucket,
+                                  @Value("${search.trending.snapshot-ms:1000}") long snapshotMillis) {
+        this(sketchDepth, sketchWidth, candidatesPerBucket, snapshotMillis, System::currentTimeMillis);
+    }
+
+    TrendingKeywordTracker(int sketchDepth, int sketchWidth, int candidatesPerBucket, long snapshotMillis, LongSupplier clock) {
+        this.candidatesPerBucket = candidatesPerBucket;
+        this.snapshotMillis = snapshotMillis;
+        this.clock = clock;
+
+        for (Window window : Window.values()) {
+            Bucket[] ring = new Bucket[window.bucketCount];
+            for (int i = 0; i < ring.length; i++) {
+                ring[i] = new Bucket(new CountMinSketch(sketchDepth, sketchWidth));
+            }
+            rings.put(window, ring);
+        }
+    }
+
+    // 수집 주기마다 합산된 키워드별 검색 수를 반영
+    public synchronized void record(Map<String, Integer> counts) {
+        long now = clock.getAsLong();
+        counts.forEach((word, count) -> recordAt(normalize(word), count, now));
+    }
+
+    public synchronized void record(String word, long count) {
+        recordAt(normalize(word), count, clock.getAsLong());
+    }
+
+    // 구간별 상위 키워드는 snapshotMillis 동안 재사용해 요청마다 다시 계산하지 않는다
+    public List<TrendingKeywordDto> top(Window window, int size) {
+        if (size <= 0) {
+            return Collections.emptyList();
+        }
+
+        long now = clock.getAsLong();
+        Snapshot snapshot;
+        synchronized (this) {
+            snapshot = snapshots.get(window);
+            if (snapshot == null || now - snapshot.computedAt() >= snapshotMillis) {
+                snapshot = new Snapshot(now, computeTop(window, now));
+                snapshots.put(window, snapshot);
+            }
+        }
+        List<TrendingKeywordDto> ranked = snapshot.ranked();
+        return ranked.subList(0, Math.min(size, ranked.size()));
+    }
+
+// -----------------------------------------------------------------------------------------------------
+
+    private void recordAt(String word, long count, long now) {
+        if (word.isEmpty() || count <= 0) {
+            return;
+        }
+        for (Window window : Window.values()) {
+            Bucket bucket = currentBucket(window, now);
+            long estimate = bucket.sketch.add(word, count);
+            bucket.offer(word, estimate, candidatesPerBucket);
+        }
+    }
+
+    private Bucket currentBucket(Window window, long now) {
+        long epoch = now / window.bucketMillis;
+        Bucket bucket = rings.get(window)[(int) (epoch % window.bucketCount)];
+        if (bucket.epoch != epoch) {
+            bucket.reset(epoch);
+        }
+        return bucket;
+    }
+
+    // 구간 안 버킷들의 후보를 모아, 후보마다 버킷별 추정값을 합산해 정렬
+    private List<TrendingKeywordDto> computeTop(Window window, long now) {
+        long currentEpoch = now / window.bucketMillis;
+        List<Bucket> live = new ArrayList<>(window.bucketCount);
+        for (Bucket bucket : rings.get(window)) {
+            if (bucket.epoch > currentEpoch - window.bucketCount && bucket.epoch <= currentEpoch) {
+                live.add(bucket);
+            }
+        }
+
+        Set<String> candidates = new HashSet<>();
+        for (Bucket bucket : live) {
+            candidates.addAll(bucket.candidates.keySet());
+        }
+
+        List<TrendingKeywordDto> ranked = new ArrayList<>(candidates.size());
+        for (String word : candidates) {
+            long count = 0;
+            for (Bucket bucket : live) {
+                count += bucket.sketch.estimate(word);
+            }
+            ranked.add(new TrendingKeywordDto(word, count));
+        }
+        ranked.sort(Comparator.comparingLong(TrendingKeywordDto::getCount).reversed()
+                .thenComparing(TrendingKeywordDto::getKeyword));
+        return List.copyOf(ranked.subList(0, Math.min(candidatesPerBucket, ranked.size())));
+    }
+
+    private String normalize(String word) {
+        return word == null ? "" : word.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static class Bucket {
+        private final CountMinSketch sketch;
+        private final Map<String, Long> candidates = new HashMap<>();
+        private long epoch = -1;
+        private long candidateFloor; // 후보 중 최솟값 이하 (후보 값은 늘기만 하므로 실제 최솟값보다 클 수 없다)
+
+        Bucket(CountMinSketch sketch) {
+            this.sketch = sketch;
+        }
+
+        void reset(long epoch) {
+            this.epoch = epoch;
+            sketch.clear();
+            candidates.clear();
+            candidateFloor = 0;
+        }
+
+        // 상위 K 후보 갱신: 후보가 차 있으면 최솟값보다 큰 키워드만 최솟값 후보와 교체
+        void offer(String word, long estimate, int capacity) {
+            if (candidates.containsKey(word) || candidates.size() < capacity) {
+                candidates.put(word, estimate);
+                return;
+            }
+            if (estimate <= candidateFloor) {
+                return;
+            }
+
+            Map.Entry<String, Long> min = null;
+            for (Map.Entry<String, Long> entry : candidates.entrySet()) {
+                if (min == null || entry.getValue() < min.getValue()) {
+                    min = entry;
+                }
+            }
+            candidateFloor = min.getValue();
+            if (estimate > candidateFloor) {
+                candidates.remove(min.getKey());
+                candidates.put(word, estimate);
+            }
+        }
+    }
+
+    private record Snapshot(long computedAt, List<TrendingKeywordDto> ranked) {
+    }
+}
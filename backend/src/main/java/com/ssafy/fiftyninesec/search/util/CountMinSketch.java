@@ -0,0 +1,128 @@
+package com.ssafy.fiftyninesec.search.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// 고정 크기(depth x width) 카운터로 키별 빈도를 추정하는 count-min sketch
+// 키 종류가 아무리 많아도 메모리는 depth * width * 8 바이트로 고정되고, 추정값은 실제값 이상(과대 추정만 발생)이다
+// 오차는 전체 합 N 에 대해 확률 1 - (1/2)^depth 로 2N / width 이하 (행마다 독립적인 해시를 쓴다는 가정)
+// 동기화하지 않으므로 호출하는 쪽에서 잠금을 잡는다
+public class CountMinSketch {
+
+    private final int depth;
+    private final int width;
+    private final long[][] counters;
+    private long total;
+
+    public CountMinSketch(int depth, int width) {
+        if (depth <= 0 || width <= 0) {
+            throw new IllegalArgumentException("depth and width must be positive");
+        }
+        this.depth = depth;
+        this.width = width;
+        this.counters = new long[depth][width];
+    }
+
+    // 증가 후 추정값을 반환 (conservative update: 최솟값보다 큰 칸은 올리지 않아 과대 추정을 줄인다)
+    public long add(String key, long count) {
+        int[] indexes = indexes(key);
+
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[row][indexes[row]]);
+        }
+
+        long updated = estimate + count;
+        for (int row = 0; row < depth; row++) {
+            if (counters[row][indexes[row]] < updated) {
+                counters[row][indexes[row]] = updated;
+            }
+        }
+        total += count;
+        return updated;
+    }
+
+    public long estimate(String key) {
+        int[] indexes = indexes(key);
+
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[row][indexes[row]]);
+        }
+        return estimate;
+    }
+
+    public long total() {
+        return total;
+    }
+
+    public void clear() {
+        for (long[] row : counters) {
+            Arrays.fill(row, 0);
+        }
+        total = 0;
+    }
+
+// -----------------------------------------------------------------------------------------------------
+
+    // 키 바이트를 행 번호를 시드로 한 murmur3 로 행마다 따로 해시해 행끼리 독립적인 칸을 고른다
+    // (String.hashCode 하나에서 파생하면 32비트 해시가 같은 키는 모든 행에서 충돌한다)
+    private int[] indexes(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+
+        int[] indexes = new int[depth];
+        for (int row = 0; row < depth; row++) {
+            indexes[row] = Math.floorMod(murmur3(bytes, row), width);
+        }
+        return indexes;
+    }
+
+    // murmur3 x86 32비트
+    private static int murmur3(byte[] data, int seed) {
+        int h = seed;
+        int blocks = data.length / 4;
+
+        for (int i = 0; i < blocks; i++) {
+            int offset = i * 4;
+            int k = (data[offset] & 0xFF)
+                    | (data[offset + 1] & 0xFF) << 8
+                    | (data[offset + 2] & 0xFF) << 16
+                    | (data[offset + 3] & 0xFF) << 24;
+            h ^= mixK(k);
+            h = Integer.rotateLeft(h, 13);
+            h = h * 5 + 0xE6546B64;
+        }
+
+        int tail = blocks * 4;
+        int k = 0;
+        switch (data.length & 3) {
+            case 3:
+                k ^= (data[tail + 2] & 0xFF) << 16;
+            case 2:
+                k ^= (data[tail + 1] & 0xFF) << 8;
+            case 1:
+                k ^= data[tail] & 0xFF;
+                h ^= mixK(k);
+            default:
+        }
+
+        h ^= data.length;
+        return fmix(h);
+    }
+
+    private static int mixK(int k) {
+        k *= 0xCC9E2D51;
+        k = Integer.rotateLeft(k, 15);
+        k *= 0x1B873593;
+        return k;
+    }
+
+    private static int fmix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
@@ -92,6 +92,18 @@ public class EventController {
         return ResponseEntity.ok(popularRooms);
     }
 
+    @Operation(summary = "인기 이벤트 룸 커서 조회", description = "커서 기반 페이지네이션으로 인기 이벤트 룸 목록을 가져옵니다. 깊은 페이지도 첫 페이지와 같은 속도로 조회됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "인기 이벤트 룸 목록이 성공적으로 조회되었습니다."),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서입니다.")
+    })
+    @GetMapping("/popular/cursor")
+    public ResponseEntity<PopularEventCursorResponseDto> getPopularRoomsByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "한 페이지에 보여질 이벤트 룸의 수", example = "5") @RequestParam(defaultValue = "5") int size) {
+        return ResponseEntity.ok(eventService.getPopularEventsByCursor(cursor, size));
+    }
+
     @Operation(summary = "마감 임박 이벤트 룸 조회", description = "마감이 임박한 이벤트 룸 목록을 가져옵니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "마감 임박 이벤트 룸 목록이 성공적으로 조회되었습니다.")
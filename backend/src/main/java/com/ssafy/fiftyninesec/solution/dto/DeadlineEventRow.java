@@ -0,0 +1,14 @@
+package com.ssafy.fiftyninesec.solution.dto;
+
+import java.time.LocalDateTime;
+
+// 마감 임박 목록용 읽기 모델 (방 + 1등 상품명 + 상품 수)
+public record DeadlineEventRow(
+        Long eventId,
+        String title,
+        LocalDateTime endTime,
+        String rectangleImage,
+        String mainPrize,
+        Long prizeCount
+) {
+}
@@ -0,0 +1,5 @@
+package com.ssafy.fiftyninesec.solution.dto;
+
+// 인기 목록 커서: 마지막 방의 인기 순위 ZSET 위치 (점수 = 잠금해제 수, roomId) + 지금까지 내려간 방 수 (순위 계산용)
+public record PopularCursor(int unlockCount, long roomId, int offset) {
+}
@@ -0,0 +1,17 @@
+package com.ssafy.fiftyninesec.solution.dto;
+
+import java.time.LocalDateTime;
+
+// 인기 이벤트 목록용 읽기 모델 (방 + 1등 상품명 + 상품 수를 한 번의 조인/그룹 쿼리로 조회)
+public record PopularEventRow(
+        Long eventId,
+        String title,
+        String description,
+        LocalDateTime endTime,
+        int unlockCount,
+        String bannerImage,
+        String rectangleImage,
+        String mainPrize,
+        Long prizeCount
+) {
+}
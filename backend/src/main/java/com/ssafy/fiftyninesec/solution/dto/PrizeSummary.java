@@ -0,0 +1,9 @@
+package com.ssafy.fiftyninesec.solution.dto;
+
+// 방별 1등 상품명과 상품 수 (검색 문서 등에 함께 싣기 위한 집계)
+public record PrizeSummary(
+        Long roomId,
+        String mainPrize,
+        Long prizeCount
+) {
+}
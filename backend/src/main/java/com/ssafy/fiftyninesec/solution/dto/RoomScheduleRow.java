@@ -0,0 +1,14 @@
+package com.ssafy.fiftyninesec.solution.dto;
+
+import com.ssafy.fiftyninesec.solution.entity.EventStatus;
+
+import java.time.LocalDateTime;
+
+// 방 상태 전환 스케줄링에 필요한 최소 정보
+public record RoomScheduleRow(
+        Long roomId,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        EventStatus status
+) {
+}
@@ -1,6 +1,6 @@
 package com.ssafy.fiftyninesec.solution.dto.response;
 
-import com.ssafy.fiftyninesec.solution.entity.EventRoom;
+import com.ssafy.fiftyninesec.solution.dto.DeadlineEventRow;
 import lombok.Builder;
 import lombok.Data;
 
@@ -16,14 +16,14 @@ public class DeadlineEventResponseDto {
     private int prizeCount;
     private String rectangleImage;
 
-    public static DeadlineEventResponseDto of(EventRoom eventRoom, String mainPrize, int prizeCount) {
+    public static DeadlineEventResponseDto of(DeadlineEventRow row) {
         return DeadlineEventResponseDto.builder()
-                .eventId(eventRoom.getId())
-                .title(eventRoom.getTitle())
-                .endTime(eventRoom.getEndTime())
-                .mainPrize(mainPrize)
-                .prizeCount(prizeCount)
-                .rectangleImage(eventRoom.getRectangleImage())
+                .eventId(row.eventId())
+                .title(row.title())
+                .endTime(row.endTime())
+                .mainPrize(row.mainPrize())
+                .prizeCount(row.prizeCount() == null ? 0 : row.prizeCount().intValue())
+                .rectangleImage(row.rectangleImage())
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.ssafy.fiftyninesec.solution.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class PopularEventCursorResponseDto {
+    private List<PopularEventResponseDto> events;
+    private String nextCursor; // 다음 페이지 요청에 그대로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+}
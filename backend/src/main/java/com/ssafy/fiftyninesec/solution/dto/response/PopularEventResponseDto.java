@@ -1,6 +1,6 @@
 package com.ssafy.fiftyninesec.solution.dto.response;
 
-import com.ssafy.fiftyninesec.solution.entity.EventRoom;
+import com.ssafy.fiftyninesec.solution.dto.PopularEventRow;
 import lombok.Builder;
 import lombok.Data;
 import lombok.AllArgsConstructor;
@@ -24,20 +24,20 @@ public class PopularEventResponseDto {
     private String bannerImage;
     private String rectangleImage;
 
-    public static PopularEventResponseDto of(EventRoom eventRoom, String mainPrize, int prizeCount, int ranking) {
-        boolean isDeadline = eventRoom.getEndTime().isBefore(LocalDateTime.now().plusHours(24));
+    public static PopularEventResponseDto of(PopularEventRow row, int ranking, int unlockCount) {
+        boolean isDeadline = row.endTime().isBefore(LocalDateTime.now().plusHours(24));
         return PopularEventResponseDto.builder()
-                .eventId(eventRoom.getId())
-                .title(eventRoom.getTitle())
+                .eventId(row.eventId())
+                .title(row.title())
                 .ranking(ranking)
-                .description(eventRoom.getDescription())
-                .endTime(eventRoom.getEndTime())
-                .prizeCount(prizeCount)
-                .unlockCount(eventRoom.getUnlockCount())
+                .description(row.description())
+                .endTime(row.endTime())
+                .prizeCount(row.prizeCount() == null ? 0 : row.prizeCount().intValue())
+                .unlockCount(unlockCount)
                 .isDeadline(isDeadline)
-                .mainPrize(mainPrize)
-                .bannerImage(eventRoom.getBannerImage())
-                .rectangleImage(eventRoom.getRectangleImage())
+                .mainPrize(row.mainPrize())
+                .bannerImage(row.bannerImage())
+                .rectangleImage(row.rectangleImage())
                 .build();
     }
 
@@ -11,7 +11,9 @@ import java.time.LocalDateTime;
 
 @Data
 @Entity
-@Table(name = "EventRoom")
+@Table(name = "EventRoom", indexes = {
+        @Index(name = "idx_event_room_end_time_status", columnList = "end_time, status")
+})
 @Setter
 @Builder
 @NoArgsConstructor
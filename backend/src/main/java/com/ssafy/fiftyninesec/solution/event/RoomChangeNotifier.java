@@ -0,0 +1,62 @@
+package com.ssafy.fiftyninesec.solution.event;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.ssafy.fiftyninesec.global.constants.RedisConstants.ROOM_CHANGED_CHANNEL;
+
+// 방 변경을 Redis 채널로 모든 노드에 알리고, 수신한 노드는 RoomChangedEvent 로 로컬 캐시들을 무효화한다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomChangeNotifier implements MessageListener {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(ROOM_CHANGED_CHANNEL));
+    }
+
+    // 트랜잭션 안이면 커밋 이후에 알려 다른 노드가 변경 전 데이터를 다시 읽지 않도록 한다
+    public void publishAfterCommit(Long roomId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(roomId);
+                }
+            });
+            return;
+        }
+        publish(roomId);
+    }
+
+    public void publish(Long roomId) {
+        stringRedisTemplate.convertAndSend(ROOM_CHANGED_CHANNEL, String.valueOf(roomId));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Long roomId = Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8));
+            eventPublisher.publishEvent(new RoomChangedEvent(roomId));
+        } catch (NumberFormatException e) {
+            log.error("Invalid room change message: {}", new String(message.getBody(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.ssafy.fiftyninesec.solution.event;
+
+// 방 정보가 변경되어 노드 로컬 캐시를 버려야 할 때 발행되는 애플리케이션 이벤트
+public record RoomChangedEvent(Long roomId) {
+}
@@ -0,0 +1,12 @@
+package com.ssafy.fiftyninesec.solution.event;
+
+// 방 생애주기 시점마다 발행되는 로컬 이벤트 (RoomLifecycleScheduler 가 발행)
+public record RoomLifecycleEvent(Long roomId, Phase phase) {
+
+    public enum Phase {
+        WARM_UP,   // 시작 직전 (캐시·Redis 준비)
+        OPENED,    // 시작 (NOT_STARTED → ONGOING)
+        CLOSED,    // 종료 (ONGOING → COMPLETED)
+        RELEASED   // 종료 후 유예 시간이 지나 방별 Redis 키 정리
+    }
+}
@@ -0,0 +1,7 @@
+package com.ssafy.fiftyninesec.solution.event;
+
+import java.util.Collection;
+
+// UnlockCounter 가 잠금해제 증가분을 MySQL 에 반영한 방들 (로컬 이벤트)
+public record UnlockCountsFlushedEvent(Collection<Long> roomIds) {
+}
@@ -1,33 +1,110 @@
 package com.ssafy.fiftyninesec.solution.repository;
 
+import com.ssafy.fiftyninesec.solution.dto.DeadlineEventRow;
+import com.ssafy.fiftyninesec.solution.dto.PopularEventRow;
+import com.ssafy.fiftyninesec.solution.dto.RoomScheduleRow;
 import com.ssafy.fiftyninesec.solution.entity.EventRoom;
 
+import com.ssafy.fiftyninesec.solution.entity.EventStatus;
 import com.ssafy.fiftyninesec.solution.entity.Member;
 import jakarta.persistence.LockModeType;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface EventRoomRepository extends JpaRepository<EventRoom, Long> {
-    Page<EventRoom> findAllByOrderByUnlockCountDesc(Pageable pageable);
 
+    // 인기 순위 ZSET 에서 고른 방들의 목록 정보 (정렬은 ZSET 순서를 따름)
     @Query(value = """
-            SELECT e \
-            FROM EventRoom e \
-            WHERE e.endTime <= :endDateTime\s\
-            AND (e.status = 'NOT_STARTED' OR e.status = 'COMPLETED') \
-            ORDER BY e.endTime ASC""")
-    List<EventRoom> findDeadlineEventsByUpcoming(@Param("endDateTime") LocalDateTime endDateTime, Pageable pageable);
+            SELECT new com.ssafy.fiftyninesec.solution.dto.PopularEventRow(
+                e.id, e.title, e.description, e.endTime, e.unlockCount, e.bannerImage, e.rectangleImage,
+                MIN(CASE WHEN p.ranking = 1 THEN p.prizeName END), COUNT(p.id))
+            FROM EventRoom e
+            LEFT JOIN Prize p ON p.eventRoom = e
+            WHERE e.id IN :roomIds
+            GROUP BY e.id, e.title, e.description, e.endTime, e.unlockCount, e.bannerImage, e.rectangleImage
+            """)
+    List<PopularEventRow> findPopularEventRowsByIds(@Param("roomIds") Collection<Long> roomIds);
+
+    // 마감 인덱스 초기 적재 (end_time 인덱스로 범위를 좁히고, 제목/이미지와 Prize 조인은 테이블을 읽는다 - 커버링 인덱스 아님)
+    @Query(value = """
+            SELECT new com.ssafy.fiftyninesec.solution.dto.DeadlineEventRow(
+                e.id, e.title, e.endTime, e.rectangleImage,
+                MIN(CASE WHEN p.ranking = 1 THEN p.prizeName END), COUNT(p.id))
+            FROM EventRoom e
+            LEFT JOIN Prize p ON p.eventRoom = e
+            WHERE e.endTime > :from
+            GROUP BY e.id, e.title, e.endTime, e.rectangleImage
+            """)
+    List<DeadlineEventRow> findDeadlineRowsEndingAfter(@Param("from") LocalDateTime from);
+
+    @Query(value = """
+            SELECT new com.ssafy.fiftyninesec.solution.dto.DeadlineEventRow(
+                e.id, e.title, e.endTime, e.rectangleImage,
+                MIN(CASE WHEN p.ranking = 1 THEN p.prizeName END), COUNT(p.id))
+            FROM EventRoom e
+            LEFT JOIN Prize p ON p.eventRoom = e
+            WHERE e.id = :roomId
+            GROUP BY e.id, e.title, e.endTime, e.rectangleImage
+            """)
+    Optional<DeadlineEventRow> findDeadlineRowById(@Param("roomId") Long roomId);
+
+    // 생애주기 스케줄러 적재용
+    @Query("""
+            SELECT new com.ssafy.fiftyninesec.solution.dto.RoomScheduleRow(e.id, e.startTime, e.endTime, e.status)
+            FROM EventRoom e
+            WHERE e.status IN :statuses
+            """)
+    List<RoomScheduleRow> findScheduleRowsByStatusIn(@Param("statuses") Collection<EventStatus> statuses);
+
+    // 종료됐지만 아직 유예 시간이 남은 방 (재시작 후에도 RELEASED 가 실행되도록)
+    @Query("""
+            SELECT new com.ssafy.fiftyninesec.solution.dto.RoomScheduleRow(e.id, e.startTime, e.endTime, e.status)
+            FROM EventRoom e
+            WHERE e.status = :status AND e.endTime > :endTimeAfter
+            """)
+    List<RoomScheduleRow> findScheduleRowsByStatusAndEndTimeAfter(@Param("status") EventStatus status,
+                                                                  @Param("endTimeAfter") LocalDateTime endTimeAfter);
+
+    @Query("""
+            SELECT new com.ssafy.fiftyninesec.solution.dto.RoomScheduleRow(e.id, e.startTime, e.endTime, e.status)
+            FROM EventRoom e
+            WHERE e.status = :status AND e.id IN :roomIds
+            """)
+    List<RoomScheduleRow> findScheduleRowsByStatusAndIdIn(@Param("status") EventStatus status,
+                                                          @Param("roomIds") Collection<Long> roomIds);
+
+    @Query("""
+            SELECT new com.ssafy.fiftyninesec.solution.dto.RoomScheduleRow(e.id, e.startTime, e.endTime, e.status)
+            FROM EventRoom e
+            WHERE e.id = :roomId
+            """)
+    Optional<RoomScheduleRow> findScheduleRowById(@Param("roomId") Long roomId);
+
+    // 현재 상태가 from 일 때만 to 로 바꾸는 조건부 전환 (여러 노드가 동시에 실행해도 한 번만 반영)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE EventRoom e SET e.status = :to WHERE e.id = :roomId AND e.status = :from")
+    int transitionStatus(@Param("roomId") Long roomId, @Param("from") EventStatus from, @Param("to") EventStatus to);
+
+    // 재색인용 키셋 페이지 (member 는 fetch join 으로 함께 조회)
+    @Query("SELECT e FROM EventRoom e JOIN FETCH e.member WHERE e.id > :afterId ORDER BY e.id")
+    List<EventRoom> findChunkAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT e.id, e.unlockCount FROM EventRoom e")
+    List<Object[]> findAllUnlockCounts();
 
     @Query(value = """
             SELECT e 
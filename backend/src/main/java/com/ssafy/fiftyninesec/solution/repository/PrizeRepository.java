@@ -1,10 +1,14 @@
 package com.ssafy.fiftyninesec.solution.repository;
 
+import com.ssafy.fiftyninesec.solution.dto.PrizeSummary;
 import com.ssafy.fiftyninesec.solution.entity.EventRoom;
 import com.ssafy.fiftyninesec.solution.entity.Prize;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +18,14 @@ public interface PrizeRepository extends JpaRepository<Prize, Long> {
     List<Prize> findByEventRoom_Id(Long roomId);
     Optional<Prize> findByEventRoomAndRanking(EventRoom eventRoom, Integer ranking);
     Optional<Prize> findFirstByEventRoomAndRanking(EventRoom eventRoom, Integer ranking);
+
+    // 여러 방의 1등 상품명/상품 수를 한 번에 집계
+    @Query("""
+            SELECT new com.ssafy.fiftyninesec.solution.dto.PrizeSummary(
+                p.eventRoom.id, MIN(CASE WHEN p.ranking = 1 THEN p.prizeName END), COUNT(p.id))
+            FROM Prize p
+            WHERE p.eventRoom.id IN :roomIds
+            GROUP BY p.eventRoom.id
+            """)
+    List<PrizeSummary> findSummariesByRoomIds(@Param("roomIds") Collection<Long> roomIds);
 }
@@ -0,0 +1,147 @@
+package com.ssafy.fiftyninesec.solution.service;
+
+import com.ssafy.fiftyninesec.solution.dto.DeadlineEventRow;
+import com.ssafy.fiftyninesec.solution.event.RoomChangedEvent;
+import com.ssafy.fiftyninesec.solution.repository.EventRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 종료 시간 순으로 정렬된 메모리 마감 인덱스 (skip list, 키 = (endTime, roomId))
+// "지금부터 window 안에 끝나는 방 N개"를 O(log n + N)으로 조회한다
+// 서버 시작 시 MySQL 에서 한 번 적재하고(end_time 범위 조회, 행 본문과 Prize 는 테이블에서 읽음), 이후에는 RoomChangedEvent 로 방 단위 갱신
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeadlineIndex {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final int REFRESH_LOCK_STRIPES = 64;
+
+    private final EventRoomRepository eventRoomRepository;
+
+    private final ConcurrentSkipListMap<DeadlineKey, DeadlineEventRow> byEndTime = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<Long, DeadlineKey> keyByRoom = new ConcurrentHashMap<>();
+    // 방 단위 갱신 잠금 (방 id 로 나눈 고정 개수라 방이 늘어도 메모리가 늘지 않는다)
+    private final ReentrantLock[] refreshLocks = newLocks(REFRESH_LOCK_STRIPES);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<DeadlineEventRow> rows = eventRoomRepository.findDeadlineRowsEndingAfter(now());
+        rows.forEach(this::put);
+        log.info("Deadline index loaded - rooms: {}", rows.size());
+    }
+
+    // 방이 생성/수정되면 (모든 노드에서) 해당 방만 다시 읽어 갱신
+    @EventListener
+    public void onRoomChanged(RoomChangedEvent event) {
+        refresh(event.roomId());
+    }
+
+    // 조회와 교체를 같은 방 잠금 안에서 해, 동시에 갱신돼도 나중에 읽은 값이 마지막에 반영된다
+    // (잠금 밖에서 읽으면 먼저 읽은 이전 값이 늦게 반영될 수 있다)
+    public void refresh(Long roomId) {
+        ReentrantLock lock = refreshLocks[Math.floorMod(roomId.hashCode(), refreshLocks.length)];
+        lock.lock();
+        try {
+            DeadlineEventRow row = eventRoomRepository.findDeadlineRowById(roomId)
+                    .filter(found -> found.endTime() != null && found.endTime().isAfter(now()))
+                    .orElse(null);
+            replace(roomId, row);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<DeadlineEventRow> findEndingWithin(Duration window, int size) {
+        LocalDateTime now = now();
+        LocalDateTime until = now.plus(window);
+        evictEndedBefore(now);
+
+        List<DeadlineEventRow> result = new ArrayList<>(size);
+        for (Map.Entry<DeadlineKey, DeadlineEventRow> entry : byEndTime.tailMap(DeadlineKey.after(now)).entrySet()) {
+            if (result.size() >= size || entry.getKey().endTime().isAfter(until)) {
+                break;
+            }
+            // 교체 중인 방의 이전 키는 건너뛴다 (현재 키만 유효)
+            if (entry.getKey().equals(keyByRoom.get(entry.getKey().roomId()))) {
+                result.add(entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return byEndTime.size();
+    }
+
+// -----------------------------------------------------------------------------------------------------
+
+    private void put(DeadlineEventRow row) {
+        replace(row.eventId(), row);
+    }
+
+    // row 가 null 이면 제거. 새 키를 먼저 넣고 이전 키를 지워 조회 중에 방이 비는 순간이 없다
+    private void replace(Long roomId, DeadlineEventRow row) {
+        keyByRoom.compute(roomId, (id, previous) -> {
+            DeadlineKey key = row == null ? null : new DeadlineKey(row.endTime(), id);
+            if (key != null) {
+                byEndTime.put(key, row);
+            }
+            if (previous != null && !previous.equals(key)) {
+                byEndTime.remove(previous);
+            }
+            return key;
+        });
+    }
+
+    // 이미 끝난 방은 조회 시 앞에서부터 정리
+    private void evictEndedBefore(LocalDateTime now) {
+        ConcurrentNavigableMap<DeadlineKey, DeadlineEventRow> ended = byEndTime.headMap(DeadlineKey.after(now));
+        for (DeadlineKey key : ended.keySet()) {
+            keyByRoom.compute(key.roomId(), (id, current) -> {
+                byEndTime.remove(key);
+                return key.equals(current) ? null : current;
+            });
+        }
+    }
+
+    private static ReentrantLock[] newLocks(int count) {
+        ReentrantLock[] locks = new ReentrantLock[count];
+        for (int i = 0; i < count; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(ZONE);
+    }
+
+    private record DeadlineKey(LocalDateTime endTime, Long roomId) implements Comparable<DeadlineKey> {
+
+        // now 와 같은 시각에 끝나는 방까지 포함하지 않는 경계 키
+        static DeadlineKey after(LocalDateTime time) {
+            return new DeadlineKey(time, Long.MAX_VALUE);
+        }
+
+        @Override
+        public int compareTo(DeadlineKey other) {
+            int byTime = endTime.compareTo(other.endTime);
+            return byTime != 0 ? byTime : Long.compare(roomId, other.roomId);
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.ssafy.fiftyninesec.solution.service;
 
 import com.ssafy.fiftyninesec.global.exception.CustomException;
-import com.ssafy.fiftyninesec.search.repository.EventRoomSearchRepository;
-import com.ssafy.fiftyninesec.search.service.SearchService;
+import com.ssafy.fiftyninesec.search.entity.SearchOutbox;
+import com.ssafy.fiftyninesec.search.repository.SearchOutboxRepository;
+import com.ssafy.fiftyninesec.global.util.CursorCodec;
+import com.ssafy.fiftyninesec.solution.dto.DeadlineEventRow;
+import com.ssafy.fiftyninesec.solution.dto.PopularCursor;
+import com.ssafy.fiftyninesec.solution.dto.PopularEventRow;
 import com.ssafy.fiftyninesec.solution.dto.PrizeDto;
 import com.ssafy.fiftyninesec.solution.dto.WinnerInfoDto;
 import com.ssafy.fiftyninesec.solution.dto.request.EventRoomRequestDto;
@@ -10,22 +14,27 @@ import com.ssafy.fiftyninesec.global.util.MinioUtil;
 import com.ssafy.fiftyninesec.solution.dto.response.*;
 import com.ssafy.fiftyninesec.solution.dto.request.WinnerRequestDto;
 import com.ssafy.fiftyninesec.solution.entity.*;
+import com.ssafy.fiftyninesec.solution.event.RoomChangeNotifier;
 import com.ssafy.fiftyninesec.solution.repository.EventRoomRepository;
 import com.ssafy.fiftyninesec.solution.repository.MemberRepository;
 import com.ssafy.fiftyninesec.solution.repository.PrizeRepository;
 import com.ssafy.fiftyninesec.solution.repository.WinnerRepository;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.time.ZoneId;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static com.ssafy.fiftyninesec.global.exception.ErrorCode.*;
@@ -35,13 +44,20 @@ import static com.ssafy.fiftyninesec.global.exception.ErrorCode.*;
 @RequiredArgsConstructor
 public class EventService {
 
+    private static final Duration DEADLINE_WINDOW = Duration.ofHours(24);
+
     private final EventRoomRepository eventRoomRepository;
     private final PrizeRepository prizeRepository;
     private final WinnerRepository winnerRepository;
     private final MemberRepository memberRepository;
     private final MinioUtil minioUtil;
-    private final EventRoomSearchRepository eventRoomSearchRepository;
-    private final SearchService searchService;
+    private final SearchOutboxRepository searchOutboxRepository;
+    private final RoomChangeNotifier roomChangeNotifier;
+    private final PopularRoomIndex popularRoomIndex;
+    private final UnlockCounter unlockCounter;
+    private final DeadlineIndex deadlineIndex;
+    private final RoomDetailCache roomDetailCache;
+    private final CursorCodec cursorCodec;
 
     @Transactional
     public long createEventRoom(EventRoomRequestDto eventRoomRequestDto,
@@ -62,8 +78,14 @@ public class EventService {
         // Prize 추가
         savePrizes(eventRoomRequestDto.getProductsOrCoupons(), eventRoom);
         
-        // elasticsearch에 동기화
-        eventRoomSearchRepository.save(searchService.convertToES(eventRoom));
+        // elasticsearch 동기화는 같은 트랜잭션의 outbox 에 기록하고 SearchOutboxRelay 가 비동기로 반영
+        searchOutboxRepository.save(SearchOutbox.of(eventRoom.getId()));
+
+        // 커밋 후 인기 순위에 0점으로 등록
+        popularRoomIndex.addRoomAfterCommit(eventRoom.getId());
+
+        // 커밋 후 모든 노드의 마감 인덱스 등에 새 방을 반영
+        roomChangeNotifier.publishAfterCommit(eventRoom.getId());
 
         return eventRoom.getId();
     }
@@ -92,14 +114,20 @@ public class EventService {
         eventRoom.setEnterCode(eventRoomRequestDto.getParticipationCode());
         eventRoom.setStartTime(eventRoomRequestDto.getEventPeriod().getStart());
         eventRoom.setEndTime(eventRoomRequestDto.getEventPeriod().getEnd());
+        if (eventRoom.getStatus() == EventStatus.NOT_STARTED || eventRoom.getStatus() == EventStatus.ONGOING) {
+            eventRoom.setStatus(initialStatus(eventRoom.getStartTime()));
+        }
 
         savePrizes(eventRoomRequestDto.getProductsOrCoupons(), eventRoom);
         uploadImages(eventRoomRequestDto.getAttachments());
 
         eventRoomRepository.save(eventRoom);
 
-        // Elasticsearch 동기화
-        eventRoomSearchRepository.save(searchService.convertToES(eventRoom));
+        // Elasticsearch 동기화 (outbox)
+        searchOutboxRepository.save(SearchOutbox.of(eventRoom.getId()));
+
+        // 커밋 후 모든 노드의 입장 게이트 캐시 무효화 및 마감 인덱스 갱신
+        roomChangeNotifier.publishAfterCommit(eventRoom.getId());
 
         log.info("Updated event room: {}", eventRoom);
     }
@@ -112,7 +140,7 @@ public class EventService {
                 .member(member)
                 .title(eventRoomRequestDto.getEventInfo().getTitle())
                 .description(eventRoomRequestDto.getEventInfo().getDescription())
-                .status(EventStatus.ONGOING)
+                .status(initialStatus(eventRoomRequestDto.getEventPeriod().getStart()))
                 .startTime(eventRoomRequestDto.getEventPeriod().getStart())
                 .endTime(eventRoomRequestDto.getEventPeriod().getEnd())
                 .enterCode(eventRoomRequestDto.getParticipationCode())
@@ -126,6 +154,11 @@ public class EventService {
         return eventRoomRepository.save(eventRoom);
     }
 
+    // 시작 전이면 NOT_STARTED 로 만들고, 이후 전환은 RoomLifecycleScheduler 가 시각에 맞춰 처리
+    private EventStatus initialStatus(LocalDateTime startTime) {
+        return startTime != null && startTime.isAfter(LocalDateTime.now()) ? EventStatus.NOT_STARTED : EventStatus.ONGOING;
+    }
+
     private void savePrizes(List<EventRoomRequestDto.ProductOrCoupon> productsOrCoupons, EventRoom eventroom) {
         productsOrCoupons.forEach(productOrCoupon -> {
             Prize prize = Prize.builder()
@@ -171,9 +204,10 @@ public class EventService {
                         .build();
             }
 
-            // 잠금해제 수 증가
-            room.increaseUnlockCount();
-            eventRoomRepository.save(room);
+            // 잠금해제 수 증가 (MySQL 은 방별 카운터가 증가분으로 주기 반영, 인기 순위 ZSET 은 ZINCRBY)
+            unlockCounter.increment(roomId);
+            popularRoomIndex.recordUnlock(roomId);
+            roomDetailCache.evictAfterCommit(roomId);
 
             return RoomUnlockResponse.builder()
                     .success(true)
@@ -213,37 +247,92 @@ public class EventService {
     @Transactional(readOnly = true)
     public Page<PopularEventResponseDto> getPopularEvents(int page, int size) {
         log.info("인기 이벤트 조회 시작 - page: {}, size: {}", page, size);
-        validatePageNumber(page, size);
 
-        Page<EventRoom> eventRooms = eventRoomRepository.findAllByOrderByUnlockCountDesc(PageRequest.of(page, size));
+        // 순위는 Redis ZSET 에서, 방/1등 상품/상품 수는 조인 쿼리 한 번으로 조회 (EventRoom 정렬 없음)
+        long totalEvents = popularRoomIndex.count();
+        validatePageNumber(page, size, totalEvents);
+
+        List<TypedTuple<String>> entries = popularRoomIndex.range(page, size);
+        List<Long> roomIds = entries.stream()
+                .map(entry -> Long.parseLong(entry.getValue()))
+                .toList();
+        Map<Long, PopularEventRow> rowsById = roomIds.isEmpty()
+                ? Collections.emptyMap()
+                : eventRoomRepository.findPopularEventRowsByIds(roomIds).stream()
+                        .collect(Collectors.toMap(PopularEventRow::eventId, row -> row));
+
+        int offset = page * size;
+        List<PopularEventResponseDto> events = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            PopularEventRow row = rowsById.get(roomIds.get(i));
+            if (row == null) {
+                continue;
+            }
+            int unlockCount = entries.get(i).getScore() == null ? row.unlockCount() : entries.get(i).getScore().intValue();
+            events.add(PopularEventResponseDto.of(row, offset + i + 1, unlockCount));
+        }
+        return new PageImpl<>(events, PageRequest.of(page, size), totalEvents);
+    }
 
-        return eventRooms.map(eventRoom -> {
-            String mainPrize = getPrizeByRanking(eventRoom, 1);
-            int prizeCount = getPrizeCount(eventRoom.getId());
-            int ranking = calculateRanking(eventRoom, eventRooms);
+    // 커서 기반 인기 목록: 오프셋 목록(getPopularEvents)과 같은 인기 순위 ZSET 을 같은 순서로 읽는다
+    // 커서 = 마지막 방의 (ZSET 점수, roomId), 다음 페이지는 ZREVRANK 로 바로 이어 읽어 깊은 페이지도 첫 페이지와 같은 비용
+    @Transactional(readOnly = true)
+    public PopularEventCursorResponseDto getPopularEventsByCursor(String cursor, int size) {
+        if (size <= 0) {
+            throw new CustomException(INVALID_REQUEST);
+        }
 
-            return PopularEventResponseDto.of(eventRoom, mainPrize, prizeCount, ranking);
-        });
+        PopularCursor position = cursor == null ? null : cursorCodec.decode(cursor, PopularCursor.class);
+        List<TypedTuple<String>> entries = position == null
+                ? popularRoomIndex.first(size + 1)
+                : popularRoomIndex.rangeAfter(position.unlockCount(), position.roomId(), size + 1);
+
+        boolean hasNext = entries.size() > size;
+        List<TypedTuple<String>> pageEntries = hasNext ? entries.subList(0, size) : entries;
+        List<Long> pageIds = pageEntries.stream()
+                .map(entry -> Long.parseLong(entry.getValue()))
+                .toList();
+        Map<Long, PopularEventRow> rowsById = pageIds.isEmpty()
+                ? Collections.emptyMap()
+                : eventRoomRepository.findPopularEventRowsByIds(pageIds).stream()
+                        .collect(Collectors.toMap(PopularEventRow::eventId, row -> row));
+
+        int offset = position == null ? 0 : position.offset();
+        List<PopularEventResponseDto> events = new ArrayList<>(pageEntries.size());
+        for (int i = 0; i < pageEntries.size(); i++) {
+            PopularEventRow row = rowsById.get(pageIds.get(i));
+            if (row == null) {
+                continue;
+            }
+            int unlockCount = pageEntries.get(i).getScore() == null ? row.unlockCount() : pageEntries.get(i).getScore().intValue();
+            events.add(PopularEventResponseDto.of(row, offset + i + 1, unlockCount));
+        }
+
+        // 행이 없는(삭제된) 방도 ZSET 위치는 차지하므로 커서는 페이지의 마지막 ZSET 항목으로 만든다
+        TypedTuple<String> last = pageEntries.isEmpty() ? null : pageEntries.get(pageEntries.size() - 1);
+        String nextCursor = hasNext && last != null
+                ? cursorCodec.encode(new PopularCursor(
+                        last.getScore() == null ? 0 : last.getScore().intValue(),
+                        Long.parseLong(last.getValue()),
+                        offset + pageEntries.size()))
+                : null;
+        return new PopularEventCursorResponseDto(events, nextCursor, nextCursor != null);
     }
 
     @Transactional(readOnly = true)
     public List<DeadlineEventResponseDto> getDeadlineEvents(int size) {
         log.info("마감 임박 이벤트 조회 시작 - size: {}", size);
 
-        LocalDateTime endDateTime = LocalDateTime.now(ZoneId.of("Asia/Seoul")).plusHours(24);
-        List<EventRoom> events = eventRoomRepository.findDeadlineEventsByUpcoming(endDateTime, PageRequest.of(0, size));
+        // 메모리 마감 인덱스에서 24시간 안에 끝나는 방을 종료 시간 순으로 조회 (DB 조회 없음)
+        List<DeadlineEventRow> rows = deadlineIndex.findEndingWithin(DEADLINE_WINDOW, size);
 
-        if (events.isEmpty()) {
+        if (rows.isEmpty()) {
             log.warn("마감 임박 이벤트가 없습니다");
             return Collections.emptyList();
         }
 
-        return events.stream()
-                .map(eventRoom -> DeadlineEventResponseDto.of(
-                        eventRoom,
-                        getPrizeByRanking(eventRoom, 1),
-                        getPrizeCount(eventRoom.getId())
-                ))
+        return rows.stream()
+                .map(DeadlineEventResponseDto::of)
                 .collect(Collectors.toList());
     }
 
@@ -265,9 +354,15 @@ public class EventService {
                 .build();
 
         winnerRepository.save(winner);
+        roomDetailCache.evictAfterCommit(roomId);
     }
 
+    // 로컬 → Redis → MySQL 순으로 조회하는 방 상세 캐시
     public EventRoomResponseDto getEventRoomInfo(Long roomId) {
+        return roomDetailCache.get(roomId, this::loadEventRoomInfo);
+    }
+
+    private EventRoomResponseDto loadEventRoomInfo(Long roomId) {
         EventRoom event = eventRoomRepository.findById(roomId)
                 .orElseThrow(() -> new CustomException(EVENT_NOT_FOUND));
 
@@ -287,7 +382,7 @@ public class EventService {
                 .endTime(event.getEndTime())
                 .winnerNum(event.getWinnerNum())
                 .enterCode(event.getEnterCode())
-                .unlockCount(event.getUnlockCount())
+                .unlockCount(currentUnlockCount(event))
                 .bannerImage(event.getBannerImage())
                 .squareImage(event.getSquareImage())
                 .rectangleImage(event.getRectangleImage())
@@ -299,6 +394,12 @@ public class EventService {
         return responseDto;
     }
 
+    // MySQL 값은 카운터 반영 주기만큼 늦으므로 인기 순위 ZSET 의 실시간 값을 우선 사용
+    private int currentUnlockCount(EventRoom event) {
+        Double score = popularRoomIndex.score(event.getId());
+        return score == null ? event.getUnlockCount() : Math.max(event.getUnlockCount(), score.intValue());
+    }
+
     public String getLatestBanner(Long memberId) {
         try {
             EventRoom latestEventRoom = eventRoomRepository.findLatestEventByMemberId(memberId)
@@ -312,8 +413,7 @@ public class EventService {
 
     // -----------------------------------------------
 
-    private void validatePageNumber(int page, int size) {
-        long totalEvents = eventRoomRepository.count();
+    private void validatePageNumber(int page, int size, long totalEvents) {
         if (page > (totalEvents / size) + 1) {
             log.warn("유효하지 않은 페이지 요청 - page: {}, totalEvents: {}", page, totalEvents);
             throw new CustomException(INVALID_REQUEST);
@@ -330,11 +430,6 @@ public class EventService {
         return prizeRepository.countByEventRoom_Id(eventRoomId);
     }
 
-    private int calculateRanking(EventRoom eventRoom, Page<EventRoom> eventRooms) {
-        return (int) (eventRooms.getNumber() * eventRooms.getSize() +
-                eventRooms.getContent().indexOf(eventRoom) + 1);
-    }
-
     // TEST ------------------------------------------
     public void testMinio(Integer eventId, MultipartFile file) {
         String originalFilename = file.getOriginalFilename(); // 원본 파일 이름
@@ -0,0 +1,114 @@
+package com.ssafy.fiftyninesec.solution.service;
+
+import com.ssafy.fiftyninesec.solution.repository.EventRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+import static com.ssafy.fiftyninesec.global.constants.RedisConstants.POPULAR_ROOMS_KEY;
+
+// 잠금해제 수 기준 인기 방 순위를 Redis ZSET(event:popular)으로 유지
+// 잠금해제마다 ZINCRBY, 조회는 ZREVRANGE 로 처리해 요청마다 EventRoom 테이블을 정렬하지 않는다
+// MySQL unlock_count 는 UnlockCounter 가 증가분으로 반영
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopularRoomIndex {
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RANGE_AFTER_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/popular-rooms-after.lua"), List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final EventRoomRepository eventRoomRepository;
+
+    // 서버 시작 시 MySQL 값으로 ZSET 을 채운다 (이미 있는 방은 건드리지 않아 다른 노드의 증가분을 덮어쓰지 않음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        Set<TypedTuple<String>> tuples = new HashSet<>();
+        for (Object[] row : eventRoomRepository.findAllUnlockCounts()) {
+            tuples.add(new DefaultTypedTuple<>(String.valueOf(row[0]), ((Number) row[1]).doubleValue()));
+        }
+        if (tuples.isEmpty()) {
+            return;
+        }
+
+        Long added = stringRedisTemplate.opsForZSet().addIfAbsent(POPULAR_ROOMS_KEY, tuples);
+        log.info("Popular room index seeded - rooms: {}, added: {}", tuples.size(), added);
+    }
+
+    // 트랜잭션 안이면 커밋 이후에 등록해 롤백된 방이 순위(ZSET)에 남지 않도록 한다
+    public void addRoomAfterCommit(Long roomId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addRoom(roomId);
+                }
+            });
+            return;
+        }
+        addRoom(roomId);
+    }
+
+    public void addRoom(Long roomId) {
+        stringRedisTemplate.opsForZSet().addIfAbsent(POPULAR_ROOMS_KEY, String.valueOf(roomId), 0);
+    }
+
+    public void recordUnlock(Long roomId) {
+        stringRedisTemplate.opsForZSet().incrementScore(POPULAR_ROOMS_KEY, String.valueOf(roomId), 1);
+    }
+
+    // 잠금해제 수 내림차순 page 번째 구간 (roomId, 잠금해제 수)
+    public List<TypedTuple<String>> range(int page, int size) {
+        long start = (long) page * size;
+        Set<TypedTuple<String>> tuples = stringRedisTemplate.opsForZSet()
+                .reverseRangeWithScores(POPULAR_ROOMS_KEY, start, start + size - 1);
+        return tuples == null ? Collections.emptyList() : new ArrayList<>(tuples);
+    }
+
+    // 커서 방(score, roomId) 다음부터 count 개 (range 와 같은 순서라 오프셋 목록과 순위가 일치)
+    @SuppressWarnings("unchecked")
+    public List<TypedTuple<String>> rangeAfter(long score, long roomId, int count) {
+        List<Object> flat = stringRedisTemplate.execute(RANGE_AFTER_SCRIPT, List.of(POPULAR_ROOMS_KEY),
+                String.valueOf(score), String.valueOf(roomId), String.valueOf(count));
+        if (flat == null) {
+            return Collections.emptyList();
+        }
+
+        // WITHSCORES 응답은 [멤버, 점수, 멤버, 점수, ...]
+        List<TypedTuple<String>> tuples = new ArrayList<>(flat.size() / 2);
+        for (int i = 0; i + 1 < flat.size(); i += 2) {
+            tuples.add(new DefaultTypedTuple<>(String.valueOf(flat.get(i)), Double.valueOf(String.valueOf(flat.get(i + 1)))));
+        }
+        return tuples;
+    }
+
+    // 처음부터 count 개
+    public List<TypedTuple<String>> first(int count) {
+        Set<TypedTuple<String>> tuples = stringRedisTemplate.opsForZSet()
+                .reverseRangeWithScores(POPULAR_ROOMS_KEY, 0, count - 1);
+        return tuples == null ? Collections.emptyList() : new ArrayList<>(tuples);
+    }
+
+    // 실시간 잠금해제 수 (순위에 없으면 null)
+    public Double score(Long roomId) {
+        return stringRedisTemplate.opsForZSet().score(POPULAR_ROOMS_KEY, String.valueOf(roomId));
+    }
+
+    public long count() {
+        Long count = stringRedisTemplate.opsForZSet().zCard(POPULAR_ROOMS_KEY);
+        return count == null ? 0 : count;
+    }
+}
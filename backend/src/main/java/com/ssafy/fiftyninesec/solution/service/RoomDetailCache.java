@@ -0,0 +1,226 @@
+package com.ssafy.fiftyninesec.solution.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.fiftyninesec.solution.dto.response.EventRoomResponseDto;
+import com.ssafy.fiftyninesec.solution.event.RoomChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static com.ssafy.fiftyninesec.global.constants.RedisConstants.*;
+
+// 방 상세(EventRoomResponseDto) 2단 캐시: 노드 로컬 Caffeine → Redis → MySQL
+// 로컬 캐시는 키마다 로더가 하나만 돌고, Redis 로딩 락으로 노드 간에도 DB 로딩을 한 번으로 줄인다
+// 무효화는 Redis 삭제 + 채널 알림으로 모든 노드의 로컬 캐시까지 지운다
+// 무효화마다 버전을 올리고 로더는 로딩 시작 시 읽은 버전이 그대로일 때만 Redis 에 써서, 커밋 전에 읽은 값이 무효화 뒤에 남지 않게 한다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomDetailCache implements MessageListener {
+
+    private static final String CACHE_NAME = "room.detail";
+    // 버전 키는 로딩 한 번보다 충분히 오래만 살면 된다 (만료되면 0 으로 돌아가 진행 중인 로더의 쓰기는 거절된다)
+    private static final Duration VERSION_TTL = Duration.ofDays(1);
+
+    private static final RedisScript<Long> CONDITIONAL_SET_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/room-detail-set.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${room-cache.local.max-size:10000}")
+    private long localMaxSize;
+
+    @Value("${room-cache.local.ttl-seconds:30}")
+    private long localTtlSeconds;
+
+    @Value("${room-cache.redis.ttl-seconds:300}")
+    private long redisTtlSeconds;
+
+    @Value("${room-cache.load-lock-ms:3000}")
+    private long loadLockMs;
+
+    @Value("${room-cache.load-wait-ms:50}")
+    private long loadWaitMs;
+
+    @Value("${room-cache.load-wait-attempts:10}")
+    private int loadWaitAttempts;
+
+    private Cache<Long, EventRoomResponseDto> localCache;
+    private Counter redisHits;
+    private Counter redisMisses;
+
+    @PostConstruct
+    void init() {
+        localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, CACHE_NAME);
+
+        redisHits = Counter.builder("room.detail.redis")
+                .description("Redis 2차 캐시 조회 결과")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        redisMisses = Counter.builder("room.detail.redis")
+                .description("Redis 2차 캐시 조회 결과")
+                .tag("result", "miss")
+                .register(meterRegistry);
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(ROOM_DETAIL_EVICT_CHANNEL));
+    }
+
+    public EventRoomResponseDto get(Long roomId, Function<Long, EventRoomResponseDto> loader) {
+        return localCache.get(roomId, id -> loadFromRedisOrSource(id, loader));
+    }
+
+    // 커밋 후 Redis 와 모든 노드의 로컬 캐시에서 제거
+    public void evictAfterCommit(Long roomId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(roomId);
+                }
+            });
+            return;
+        }
+        evict(roomId);
+    }
+
+    public void evict(Long roomId) {
+        invalidateRedis(roomId);
+        stringRedisTemplate.convertAndSend(ROOM_DETAIL_EVICT_CHANNEL, String.valueOf(roomId));
+    }
+
+    // 방 수정 알림(RoomChangeNotifier)으로도 무효화
+    @EventListener
+    public void onRoomChanged(RoomChangedEvent event) {
+        invalidateRedis(event.roomId());
+        localCache.invalidate(event.roomId());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            localCache.invalidate(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.error("Invalid room detail evict message: {}", body);
+        }
+    }
+
+// -----------------------------------------------------------------------------------------------------
+
+    // 버전을 먼저 올리고 지워, 이 시점 이전에 버전을 읽은 로더는 쓰기가 거절된다
+    private void invalidateRedis(Long roomId) {
+        String versionKey = versionKey(roomId);
+        stringRedisTemplate.opsForValue().increment(versionKey);
+        stringRedisTemplate.expire(versionKey, VERSION_TTL);
+        stringRedisTemplate.delete(ROOM_DETAIL_KEY_PREFIX + roomId);
+    }
+
+    private EventRoomResponseDto loadFromRedisOrSource(Long roomId, Function<Long, EventRoomResponseDto> loader) {
+        String key = ROOM_DETAIL_KEY_PREFIX + roomId;
+
+        EventRoomResponseDto cached = readRedis(key);
+        if (cached != null) {
+            redisHits.increment();
+            return cached;
+        }
+        redisMisses.increment();
+
+        // 다른 노드가 이미 DB 에서 읽는 중이면 잠시 기다렸다가 Redis 결과를 사용
+        String lockKey = key + ROOM_DETAIL_LOCK_SUFFIX;
+        Boolean acquired = stringRedisTemplate.opsForValue()
+                .setIfAbsent(lockKey, "1", Duration.ofMillis(loadLockMs));
+        if (!Boolean.TRUE.equals(acquired)) {
+            EventRoomResponseDto loadedByOther = waitForOtherLoader(key);
+            if (loadedByOther != null) {
+                return loadedByOther;
+            }
+        }
+
+        try {
+            // DB 를 읽기 전에 버전을 읽어 둔다 (읽는 사이 무효화되면 Redis 에 쓰지 않음)
+            String version = stringRedisTemplate.opsForValue().get(versionKey(roomId));
+            EventRoomResponseDto loaded = loader.apply(roomId);
+            writeRedis(roomId, version == null ? "0" : version, loaded);
+            return loaded;
+        } finally {
+            if (Boolean.TRUE.equals(acquired)) {
+                stringRedisTemplate.delete(lockKey);
+            }
+        }
+    }
+
+    private EventRoomResponseDto waitForOtherLoader(String key) {
+        for (int attempt = 0; attempt < loadWaitAttempts; attempt++) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(loadWaitMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            EventRoomResponseDto cached = readRedis(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        return null;
+    }
+
+    private EventRoomResponseDto readRedis(String key) {
+        try {
+            String json = stringRedisTemplate.opsForValue().get(key);
+            return json == null ? null : objectMapper.readValue(json, EventRoomResponseDto.class);
+        } catch (Exception e) {
+            log.error("Error reading room detail cache - key: {} - Error: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(Long roomId, String version, EventRoomResponseDto value) {
+        String key = ROOM_DETAIL_KEY_PREFIX + roomId;
+        try {
+            Long written = stringRedisTemplate.execute(CONDITIONAL_SET_SCRIPT,
+                    List.of(key, versionKey(roomId)),
+                    version, objectMapper.writeValueAsString(value), String.valueOf(redisTtlSeconds));
+            if (written == null || written == 0) {
+                log.debug("Skipped stale room detail cache write - key: {}", key);
+            }
+        } catch (Exception e) {
+            log.error("Error writing room detail cache - key: {} - Error: {}", key, e.getMessage());
+        }
+    }
+
+    private String versionKey(Long roomId) {
+        return ROOM_DETAIL_KEY_PREFIX + roomId + ROOM_DETAIL_VERSION_SUFFIX;
+    }
+}
@@ -0,0 +1,208 @@
+package com.ssafy.fiftyninesec.solution.service;
+
+import com.ssafy.fiftyninesec.global.util.WorkerThreads;
+import com.ssafy.fiftyninesec.search.entity.SearchOutbox;
+import com.ssafy.fiftyninesec.search.repository.SearchOutboxRepository;
+import com.ssafy.fiftyninesec.solution.dto.RoomScheduleRow;
+import com.ssafy.fiftyninesec.solution.entity.EventStatus;
+import com.ssafy.fiftyninesec.solution.event.RoomChangeNotifier;
+import com.ssafy.fiftyninesec.solution.event.RoomChangedEvent;
+import com.ssafy.fiftyninesec.solution.event.RoomLifecycleEvent;
+import com.ssafy.fiftyninesec.solution.event.RoomLifecycleEvent.Phase;
+import com.ssafy.fiftyninesec.solution.repository.EventRoomRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.ssafy.fiftyninesec.global.constants.RedisConstants.ACTIVE_ROOMS_KEY;
+
+// 방 상태를 시작/종료 시각에 정확히 NOT_STARTED → ONGOING → COMPLETED 로 바꾸는 스케줄러
+// 테이블을 주기적으로 훑지 않고, 방마다 다음 전환 시각을 DelayQueue 에 넣어 두고 시각이 되면 꺼내 처리한다
+// 모든 노드가 같은 스케줄을 갖지만 상태 전환은 조건부 UPDATE(현재 상태 일치 시에만)라 한 번만 반영된다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomLifecycleScheduler {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final EventRoomRepository eventRoomRepository;
+    private final SearchOutboxRepository searchOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WorkerThreads workerThreads;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RoomDetailCache roomDetailCache;
+    private final RoomChangeNotifier roomChangeNotifier;
+
+    @Value("${lifecycle.warm-up-lead-seconds:30}")
+    private long warmUpLeadSeconds;
+
+    @Value("${lifecycle.release-delay-seconds:600}")
+    private long releaseDelaySeconds;
+
+    private final DelayQueue<ScheduledPhase> queue = new DelayQueue<>();
+    // 방을 다시 스케줄링하면 세대를 올려 이전에 넣어 둔 항목은 꺼낼 때 버린다 (큐에서 O(n) 삭제 없음)
+    private final ConcurrentHashMap<Long, Long> generationByRoom = new ConcurrentHashMap<>();
+    private final AtomicLong generationSequence = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Map<Long, RoomScheduleRow> rows = new LinkedHashMap<>();
+        eventRoomRepository.findScheduleRowsByStatusIn(List.of(EventStatus.NOT_STARTED, EventStatus.ONGOING))
+                .forEach(row -> rows.put(row.roomId(), row));
+        // 종료된 방도 RELEASED 가 남아 있으면 적재: 유예 시간이 남은 방 + 시각은 지났지만 Redis 키가 정리되지 않은 방
+        // (지난 시각의 항목은 큐에서 바로 꺼내져 정리된다)
+        eventRoomRepository.findScheduleRowsByStatusAndEndTimeAfter(EventStatus.COMPLETED,
+                        LocalDateTime.now(ZONE).minusSeconds(releaseDelaySeconds))
+                .forEach(row -> rows.put(row.roomId(), row));
+        List<Long> unreleasedRoomIds = unreleasedRoomIds();
+        if (!unreleasedRoomIds.isEmpty()) {
+            eventRoomRepository.findScheduleRowsByStatusAndIdIn(EventStatus.COMPLETED, unreleasedRoomIds)
+                    .forEach(row -> rows.put(row.roomId(), row));
+        }
+        rows.values().forEach(this::schedule);
+
+        running = true;
+        worker = workerThreads.start("room-lifecycle", this::runLoop);
+        log.info("Room lifecycle scheduler started - rooms: {}, queued: {}", rows.size(), queue.size());
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    // 방 생성/수정 시 시각이 바뀌었을 수 있으므로 다시 스케줄링
+    @EventListener
+    public void onRoomChanged(RoomChangedEvent event) {
+        eventRoomRepository.findScheduleRowById(event.roomId()).ifPresent(this::schedule);
+    }
+
+    public int scheduledCount() {
+        return queue.size();
+    }
+
+// -----------------------------------------------------------------------------------------------------
+
+    // 참여 키가 아직 남아 있는 방 (RELEASED 에서 event:active-rooms 에서 빠진다)
+    private List<Long> unreleasedRoomIds() {
+        Set<String> members = stringRedisTemplate.opsForSet().members(ACTIVE_ROOMS_KEY);
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    private void schedule(RoomScheduleRow row) {
+        if (row.startTime() == null || row.endTime() == null) {
+            return;
+        }
+
+        long generation = generationSequence.incrementAndGet();
+        generationByRoom.put(row.roomId(), generation);
+
+        if (row.status() == EventStatus.NOT_STARTED) {
+            enqueue(row.roomId(), Phase.WARM_UP, row.startTime().minusSeconds(warmUpLeadSeconds), generation);
+            enqueue(row.roomId(), Phase.OPENED, row.startTime(), generation);
+        }
+        if (row.status() == EventStatus.NOT_STARTED || row.status() == EventStatus.ONGOING) {
+            enqueue(row.roomId(), Phase.CLOSED, row.endTime(), generation);
+        }
+        enqueue(row.roomId(), Phase.RELEASED, row.endTime().plusSeconds(releaseDelaySeconds), generation);
+    }
+
+    private void enqueue(Long roomId, Phase phase, LocalDateTime at, long generation) {
+        long atMillis = at.atZone(ZONE).toInstant().toEpochMilli();
+        queue.put(new ScheduledPhase(roomId, phase, atMillis, generation));
+    }
+
+    private void runLoop() {
+        while (running) {
+            try {
+                ScheduledPhase next = queue.take();
+                if (!generationByRoom.getOrDefault(next.roomId(), -1L).equals(next.generation())) {
+                    continue; // 다시 스케줄링되어 무효가 된 항목
+                }
+                apply(next);
+            } catch (InterruptedException e) {
+                running = false;
+            } catch (Exception e) {
+                log.error("Error applying room lifecycle phase - Error: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void apply(ScheduledPhase scheduled) {
+        Long roomId = scheduled.roomId();
+        switch (scheduled.phase()) {
+            case OPENED -> transition(roomId, EventStatus.NOT_STARTED, EventStatus.ONGOING);
+            case CLOSED -> {
+                // 시작 전에 끝나는 경우(시작/종료가 같은 시각 등)도 COMPLETED 로 보낸다
+                transition(roomId, EventStatus.NOT_STARTED, EventStatus.ONGOING);
+                transition(roomId, EventStatus.ONGOING, EventStatus.COMPLETED);
+            }
+            case RELEASED -> generationByRoom.remove(roomId, scheduled.generation());
+            default -> {
+            }
+        }
+        eventPublisher.publishEvent(new RoomLifecycleEvent(roomId, scheduled.phase()));
+    }
+
+    // 상태 전환과 outbox 기록을 한 트랜잭션으로 묶어 중간에 죽어도 검색 인덱스 갱신이 유실되지 않게 한다
+    private void transition(Long roomId, EventStatus from, EventStatus to) {
+        Boolean changed = transactionTemplate.execute(status -> {
+            int updated = eventRoomRepository.transitionStatus(roomId, from, to);
+            if (updated == 0) {
+                return false;
+            }
+            // 검색 인덱스의 status 도 갱신되도록 outbox 에 기록
+            searchOutboxRepository.save(SearchOutbox.of(roomId));
+            // 커밋 후 방 상세 캐시(status 포함)를 지우고 모든 노드에 변경을 알린다 (마감 인덱스, 입장 게이트, 스케줄 갱신)
+            roomDetailCache.evictAfterCommit(roomId);
+            roomChangeNotifier.publishAfterCommit(roomId);
+            return true;
+        });
+        if (Boolean.TRUE.equals(changed)) {
+            log.info("Room {} status changed - {} -> {}", roomId, from, to);
+        }
+    }
+
+    private record ScheduledPhase(Long roomId, Phase phase, long atMillis, long generation) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(atMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(atMillis, ((ScheduledPhase) other).atMillis);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.ssafy.fiftyninesec.solution.service;
+
+import com.ssafy.fiftyninesec.solution.event.UnlockCountsFlushedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 방별 잠금해제 수 카운터
+// 요청 경로에서는 LongAdder 에 더하기만 하고(경합·DB 접근 없음), 주기적으로 증가분만 원자적 UPDATE 로 반영한다
+// 증가분(+?)으로 반영하므로 여러 노드가 각자 flush 해도 잃어버리는 증가가 없다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnlockCounter {
+
+    private static final String FLUSH_SQL =
+            "UPDATE event_room SET unlock_count = unlock_count + ? WHERE room_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 제거하면 제거 직전에 참조를 잡은 스레드의 증가분을 잃으므로 방별 LongAdder 는 지우지 않는다
+    private final ConcurrentHashMap<Long, LongAdder> pendingByRoom = new ConcurrentHashMap<>();
+
+    public void increment(Long roomId) {
+        pendingByRoom.computeIfAbsent(roomId, key -> new LongAdder()).increment();
+    }
+
+    // 아직 DB 에 반영되지 않은 증가분 (조회 시 MySQL 값에 더해 쓸 수 있음)
+    public long pending(Long roomId) {
+        LongAdder adder = pendingByRoom.get(roomId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${unlock.flush-ms:1000}")
+    public void flush() {
+        List<Long> roomIds = new ArrayList<>();
+        List<Object[]> args = new ArrayList<>();
+
+        for (Map.Entry<Long, LongAdder> entry : pendingByRoom.entrySet()) {
+            // sumThenReset 은 셀마다 getAndSet(0) 이라 동시에 들어온 증가는 이번 또는 다음 flush 에 포함된다
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) {
+                roomIds.add(entry.getKey());
+                args.add(new Object[]{delta, entry.getKey()});
+            }
+        }
+        if (args.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, args);
+        } catch (Exception e) {
+            log.error("Error flushing unlock counts - rooms: {} - Error: {}", roomIds.size(), e.getMessage());
+            // 반영하지 못한 증가분은 다음 flush 때 다시 시도
+            for (Object[] arg : args) {
+                pendingByRoom.get((Long) arg[1]).add((Long) arg[0]);
+            }
+            return;
+        }
+
+        // 검색 문서 등 잠금해제 수를 따로 들고 있는 곳에 알림
+        eventPublisher.publishEvent(new UnlockCountsFlushedEvent(roomIds));
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
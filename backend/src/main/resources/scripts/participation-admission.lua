@@ -0,0 +1,63 @@
+-- 참여 승인 스크립트: 중복 확인, 랭킹 발급, 당첨 여부 판단, 스트림 적재를 한 번의 왕복으로 처리
+-- 승인된 참여는 DB에 반영될 때까지 미반영 해시에도 남겨 장애 시 재처리할 수 있게 한다
+-- KEYS[1] = event:participants:{roomId}  (참여자 집합)
+-- KEYS[2] = event:ranking:{roomId}       (랭킹 카운터)
+-- KEYS[3] = event:stream:{roomId}        (참여 결과 스트림, 엔트리 ID = {ranking}-0)
+-- KEYS[4] = event:persist:pending        (DB 미반영 참여 해시, field = {roomId}:{memberId})
+-- KEYS[5] = event:active-rooms           (참여가 진행 중인 방 집합)
+-- ARGV[1] = memberId, ARGV[2] = winnerNum, ARGV[3] = roomId, ARGV[4] = joinedAt, ARGV[5] = winnerName
+-- ARGV[6] = 당첨 마감 후 거절 여부 ('1' 이면 공유 랭킹 카운터가 winnerNum 에 도달한 방의 참여를 거절)
+-- 반환값: 발급된 랭킹, 이미 참여한 경우 -1, 당첨 마감으로 거절한 경우 -2 (쓰기 실패 시 되돌린 뒤 오류 응답)
+
+-- 마감 여부는 모든 노드가 공유하는 랭킹 카운터로 판단해 어느 노드로 들어와도 같은 결과가 나오도록 한다
+local winnerNum = tonumber(ARGV[2])
+if ARGV[6] == '1' and winnerNum > 0 and tonumber(redis.call('GET', KEYS[2]) or '0') >= winnerNum then
+    return -2
+end
+
+-- Redis 는 스크립트가 중간에 실패해도 이미 실행한 쓰기를 되돌리지 않는다
+-- 그래서 읽기로 먼저 확인하고, 실패할 수 있는 쓰기는 redis.pcall 로 실행해 실패하면 앞선 쓰기를 직접 되돌린다
+-- 참여자 SADD 는 모든 쓰기가 성공한 뒤 마지막에 해서, 실패한 참여가 '이미 참여'로 남지 않게 한다
+if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+    return -1
+end
+
+-- 방을 활성으로 표시하는 것은 멱등이고 참여가 실패해도 남아 있어도 무방하므로 먼저 처리
+redis.call('SADD', KEYS[5], ARGV[3])
+
+local ranking = redis.call('INCR', KEYS[2])
+
+local winnerName = cjson.null
+if ARGV[5] ~= '' then
+    winnerName = ARGV[5]
+end
+
+local participation = cjson.encode({
+    eventId = tonumber(ARGV[3]),
+    memberId = tonumber(ARGV[1]),
+    joinedAt = ARGV[4],
+    ranking = ranking,
+    isWinner = ranking <= winnerNum,
+    winnerName = winnerName
+})
+
+local pendingField = ARGV[3] .. ':' .. ARGV[1]
+local result = redis.pcall('HSET', KEYS[4], pendingField, participation)
+if type(result) == 'table' and result.err then
+    redis.call('DECR', KEYS[2])
+    return result
+end
+
+-- 랭킹을 스트림 ID로 사용해 '특정 랭킹 이후' 조회를 XRANGE 한 번으로 처리
+-- XDEL 로는 스트림의 마지막 ID 가 내려가지 않아 되돌릴 수 없으므로 실패할 수 있는 쓰기 중 마지막에 둔다
+result = redis.pcall('XADD', KEYS[3], ranking .. '-0', 'payload', participation)
+if type(result) == 'table' and result.err then
+    redis.call('HDEL', KEYS[4], pendingField)
+    redis.call('DECR', KEYS[2])
+    return result
+end
+
+-- SISMEMBER 로 자료형이 확인된 키라 실패하지 않는다
+redis.call('SADD', KEYS[1], ARGV[1])
+
+return ranking
@@ -0,0 +1,27 @@
+-- 인기 순위 ZSET(event:popular) 커서 페이지: 커서 방 다음 위치부터 count 개를 (멤버, 점수) 순으로 반환
+-- 정렬은 ZREVRANGE 와 같다 (점수 내림차순, 같은 점수는 멤버 사전 역순) - 오프셋 목록과 같은 순서
+-- KEYS[1] = event:popular
+-- ARGV[1] = 커서 방의 점수, ARGV[2] = 커서 방 id(멤버), ARGV[3] = 가져올 개수
+
+local score = tonumber(ARGV[1])
+local member = ARGV[2]
+local count = tonumber(ARGV[3])
+
+local start
+local current = redis.call('ZSCORE', KEYS[1], member)
+if current and tonumber(current) == score then
+    -- 커서 방의 점수가 그대로면 그 순위 바로 다음부터
+    start = redis.call('ZREVRANK', KEYS[1], member) + 1
+else
+    -- 그 사이 잠금해제로 점수가 바뀐(또는 빠진) 경우: 커서가 가리키던 자리(점수, 멤버)를 다시 찾는다
+    -- 커서 점수보다 높은 방 수 + 같은 점수 묶음에서 커서 멤버보다 앞(사전 역순)에 오는 방 수
+    start = redis.call('ZCOUNT', KEYS[1], '(' .. ARGV[1], '+inf')
+    for _, tied in ipairs(redis.call('ZREVRANGEBYSCORE', KEYS[1], ARGV[1], ARGV[1])) do
+        if tied <= member then
+            break
+        end
+        start = start + 1
+    end
+end
+
+return redis.call('ZREVRANGE', KEYS[1], start, start + count - 1, 'WITHSCORES')
@@ -0,0 +1,13 @@
+-- 방 상세 2차 캐시 조건부 쓰기: 로딩을 시작할 때 읽은 버전이 그대로일 때만 SET 한다
+-- 로딩 중에 무효화(버전 INCR)가 끼어들었다면 읽은 값이 커밋 이전 데이터일 수 있으므로 쓰지 않는다
+-- KEYS[1] = event:room:detail:{roomId}          (캐시 값)
+-- KEYS[2] = event:room:detail:{roomId}:version  (무효화마다 INCR)
+-- ARGV[1] = 로딩 시작 시 읽은 버전, ARGV[2] = 값(JSON), ARGV[3] = TTL(초)
+-- 반환값: 쓴 경우 1, 버전이 바뀌어 버린 경우 0
+
+if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then
+    return 0
+end
+
+redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3])
+return 1
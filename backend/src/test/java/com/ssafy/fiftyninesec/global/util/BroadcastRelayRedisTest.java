@@ -0,0 +1,141 @@
+package com.ssafy.fiftyninesec.global.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ssafy.fiftyninesec.chat.controller.ChatController;
+import com.ssafy.fiftyninesec.chat.dto.ChatMessageDto;
+import com.ssafy.fiftyninesec.chat.service.ChatService;
+import com.ssafy.fiftyninesec.participation.dto.ParticipationResponseDto;
+import com.ssafy.fiftyninesec.participation.service.ParticipationPayloadEncoder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+// 실제 Redis(Testcontainers)로 두 노드를 띄워 중계 왕복을 검증
+// RedisMessageListenerContainer 구독, 채널 이름/본문 직렬화, 참여 프레임 인코딩과 ChatController 경로를 함께 거친다
+@Testcontainers(disabledWithoutDocker = true)
+class BroadcastRelayRedisTest {
+
+    private static final long DELIVERY_TIMEOUT_MS = 5000;
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final List<Node> nodes = new ArrayList<>();
+
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new Node();
+        nodeB = new Node();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(Node::close);
+    }
+
+    @Test
+    void 참여_프레임이_Redis_를_거쳐_모든_노드에_같은_바이트로_전달된다() throws Exception {
+        ParticipationPayloadEncoder encoder = new ParticipationPayloadEncoder(objectMapper);
+        ReflectionTestUtils.setField(encoder, "encoding", "json");
+        ReflectionTestUtils.invokeMethod(encoder, "init");
+
+        List<ParticipationResponseDto> frame = List.of(
+                new ParticipationResponseDto(1L, 10L, LocalDateTime.of(2024, 11, 1, 12, 0, 0), 1, true, "김싸피"),
+                new ParticipationResponseDto(1L, 11L, LocalDateTime.of(2024, 11, 1, 12, 0, 1), 2, false, null));
+        byte[] payload = encoder.encode(1L, frame);
+
+        nodeA.broadcastUtil.sendPreSerialized("/result/sub/participations/1", payload);
+
+        for (Node node : nodes) {
+            byte[] delivered = node.awaitPayload("/result/sub/participations/1");
+            assertThat(delivered).isEqualTo(payload);
+
+            List<ParticipationResponseDto> decoded = objectMapper.readValue(delivered, new TypeReference<List<ParticipationResponseDto>>() {});
+            assertThat(decoded).extracting(ParticipationResponseDto::getRanking).containsExactly(1, 2);
+            assertThat(decoded.get(0).getWinnerName()).isEqualTo("김싸피");
+        }
+    }
+
+    @Test
+    void 채팅_메시지가_ChatController_에서_Redis_를_거쳐_모든_노드에_전달된다() throws Exception {
+        ChatController chatController = new ChatController(nodeA.broadcastUtil, objectMapper, mock(ChatService.class));
+        ChatMessageDto message = ChatMessageDto.builder()
+                .eventId(7L)
+                .memberId(3L)
+                .sender("참여자")
+                .content("안녕하세요 👋")
+                .build();
+
+        chatController.sendMessage(message, 7L);
+
+        for (Node node : nodes) {
+            ChatMessageDto delivered = objectMapper.readValue(node.awaitPayload("/chat/sub/room/7"), ChatMessageDto.class);
+            assertThat(delivered.getContent()).isEqualTo("안녕하세요 👋");
+            assertThat(delivered.getSender()).isEqualTo("참여자");
+            assertThat(delivered.getSentAt()).isNotNull();
+        }
+    }
+
+    // 노드 하나: 자기 Redis 연결, 리스너 컨테이너, 중계 리스너, 목 브로커(구독 세션 대신)
+    private class Node {
+        final LettuceConnectionFactory connectionFactory =
+                new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        final RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+        final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+        final BroadcastUtil broadcastUtil;
+
+        Node() {
+            connectionFactory.afterPropertiesSet();
+            connectionFactory.start();
+            StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+
+            broadcastUtil = new BroadcastUtil(messagingTemplate, redisTemplate);
+            ReflectionTestUtils.setField(broadcastUtil, "relayEnabled", true);
+
+            listenerContainer.setConnectionFactory(connectionFactory);
+            listenerContainer.afterPropertiesSet();
+            new BroadcastRelayListener(listenerContainer, broadcastUtil).subscribe();
+            // 구독이 등록될 때까지 기다린 뒤 반환 (이전에 발행된 메시지는 받지 못하므로)
+            listenerContainer.start();
+            nodes.add(this);
+        }
+
+        @SuppressWarnings("unchecked")
+        byte[] awaitPayload(String destination) {
+            ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+            verify(messagingTemplate, timeout(DELIVERY_TIMEOUT_MS).times(1)).send(eq(destination), captor.capture());
+            return (byte[]) captor.getValue().getPayload();
+        }
+
+        void close() {
+            listenerContainer.stop();
+            connectionFactory.destroy();
+        }
+    }
+}
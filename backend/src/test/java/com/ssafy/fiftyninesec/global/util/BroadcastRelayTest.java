@@ -0,0 +1,84 @@
+package com.ssafy.fiftyninesec.global.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// Redis 없이 메모리 pub/sub 으로 두 노드를 묶어 중계 동작을 검증
+class BroadcastRelayTest {
+
+    private static final String DESTINATION = "/result/sub/participations/1";
+
+    private final List<BroadcastRelayListener> subscribers = new ArrayList<>();
+
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new Node();
+        nodeB = new Node();
+    }
+
+    @Test
+    void 한_노드에서_발행하면_모든_노드의_세션에_전달된다() {
+        byte[] payload = "[{\"ranking\":1}]".getBytes(StandardCharsets.UTF_8);
+
+        nodeA.broadcastUtil.sendPreSerialized(DESTINATION, payload);
+
+        verify(nodeA.messagingTemplate, times(1)).send(eq(DESTINATION), argThat(hasPayload(payload)));
+        verify(nodeB.messagingTemplate, times(1)).send(eq(DESTINATION), argThat(hasPayload(payload)));
+    }
+
+    @Test
+    void 중계를_끄면_발행한_노드에만_전달된다() {
+        byte[] payload = "{\"content\":\"hi\"}".getBytes(StandardCharsets.UTF_8);
+        ReflectionTestUtils.setField(nodeA.broadcastUtil, "relayEnabled", false);
+
+        nodeA.broadcastUtil.sendPreSerialized("/chat/sub/room/1", payload);
+
+        verify(nodeA.messagingTemplate, times(1)).send(eq("/chat/sub/room/1"), argThat(hasPayload(payload)));
+        verify(nodeB.messagingTemplate, never()).send(anyString(), any(Message.class));
+    }
+
+    private org.mockito.ArgumentMatcher<Message<?>> hasPayload(byte[] payload) {
+        return message -> Arrays.equals((byte[]) message.getPayload(), payload);
+    }
+
+    // 메모리 pub/sub: 발행된 메시지를 모든 노드의 리스너에 그대로 전달
+    private void publish(String channel, String body) {
+        DefaultMessage message = new DefaultMessage(
+                channel.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+        subscribers.forEach(listener -> listener.onMessage(message, null));
+    }
+
+    private class Node {
+        final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+        final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        final BroadcastUtil broadcastUtil = new BroadcastUtil(messagingTemplate, redisTemplate);
+
+        Node() {
+            ReflectionTestUtils.setField(broadcastUtil, "relayEnabled", true);
+            doAnswer(invocation -> {
+                publish(invocation.getArgument(0), invocation.getArgument(1));
+                return 1L;
+            }).when(redisTemplate).convertAndSend(anyString(), any());
+
+            subscribers.add(new BroadcastRelayListener(mock(RedisMessageListenerContainer.class), broadcastUtil));
+        }
+    }
+}
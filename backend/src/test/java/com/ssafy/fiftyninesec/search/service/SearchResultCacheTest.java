@@ -0,0 +1,118 @@
+package com.ssafy.fiftyninesec.search.service;
+
+import com.ssafy.fiftyninesec.search.dto.EventRoomSearchResponseDto;
+import com.ssafy.fiftyninesec.search.dto.EventRoomSearchResponseWrapper;
+import com.ssafy.fiftyninesec.search.event.SearchIndexChangeNotifier;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// ES 반영(문서 변경 후 버전 증가) 이후에는 이전 검색 결과가 절대 나가지 않는지 검증
+class SearchResultCacheTest {
+
+    // 인덱스 역할: 방 제목과 Redis 인덱스 버전
+    private final AtomicReference<String> indexedTitle = new AtomicReference<>("v0");
+    private final AtomicLong indexVersion = new AtomicLong();
+    private final AtomicInteger esQueries = new AtomicInteger();
+
+    private SearchIndexChangeNotifier indexChangeNotifier;
+    private SearchResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        indexChangeNotifier = mock(SearchIndexChangeNotifier.class);
+        when(indexChangeNotifier.currentVersion()).thenAnswer(invocation -> indexVersion.get());
+        cache = new SearchResultCache(indexChangeNotifier, new SimpleMeterRegistry(), 10_000, 60);
+    }
+
+    @Test
+    void 같은_버전에서는_정규화한_키워드와_페이지가_같으면_ES를_다시_조회하지_않는다() {
+        search("Event Room", 0);
+        search("  event   room ", 0);
+        search("EVENT ROOM", 0);
+        search("event room", 1);
+
+        assertThat(esQueries.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 방이_수정되어_버전이_오르면_이전_결과를_내보내지_않는다() {
+        assertThat(titleOf(search("event", 0))).isEqualTo("v0");
+
+        updateRoom("v1");
+
+        assertThat(titleOf(search("event", 0))).isEqualTo("v1");
+        assertThat(esQueries.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 동시_검색_중에_반복_수정해도_수정이_끝난_뒤에는_항상_최신_결과를_받는다() throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread reader = new Thread(() -> {
+                while (running.get()) {
+                    search("event", 0);
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+
+        try {
+            for (int i = 1; i <= 1_000; i++) {
+                updateRoom("v" + i);
+                assertThat(titleOf(search("event", 0))).isEqualTo("v" + i);
+            }
+        } finally {
+            running.set(false);
+            for (Thread reader : readers) {
+                reader.join();
+            }
+        }
+    }
+
+    @Test
+    void 버전을_읽지_못하면_캐시를_쓰지_않고_매번_조회한다() {
+        when(indexChangeNotifier.currentVersion()).thenReturn(null);
+
+        search("event", 0);
+        search("event", 0);
+
+        assertThat(esQueries.get()).isEqualTo(2);
+    }
+
+// -----------------------------------------------------------------------------------------------------
+
+    // SearchOutboxRelay 순서: 문서 반영(+refresh) 후 버전 증가
+    private void updateRoom(String title) {
+        indexedTitle.set(title);
+        indexVersion.incrementAndGet();
+    }
+
+    private EventRoomSearchResponseWrapper search(String keyword, int page) {
+        return cache.get(keyword, page, 10, () -> {
+            esQueries.incrementAndGet();
+            EventRoomSearchResponseDto room = EventRoomSearchResponseDto.builder()
+                    .eventId(1L)
+                    .title(indexedTitle.get())
+                    .build();
+            return new EventRoomSearchResponseWrapper(List.of(room), page, page == 0, false, null);
+        });
+    }
+
+    private String titleOf(EventRoomSearchResponseWrapper wrapper) {
+        return wrapper.getResults().get(0).getTitle();
+    }
+}
@@ -0,0 +1,60 @@
+package com.ssafy.fiftyninesec.search.service;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.ssafy.fiftyninesec.search.service.TrendingKeywordTracker.Window.DAY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 인기 검색어 추적기 처리량 측정 (./gradlew benchmark 로만 실행, 일반 test 에서는 제외)
+// 실행 환경마다 편차가 커서 하한을 단정하지 않고, 예열 후 여러 번 잰 값을 출력만 한다
+@Tag("benchmark")
+class TrendingKeywordTrackerBenchmark {
+
+    private static final int KEYWORDS = 100_000;
+    private static final int RECORDS = 1_000_000;
+    private static final int WARM_UP_ROUNDS = 2;
+    private static final int MEASURE_ROUNDS = 5;
+
+    @Test
+    void 키워드_반영_처리량() {
+        String[] words = new String[KEYWORDS];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = "keyword-" + i;
+        }
+
+        for (int round = 0; round < WARM_UP_ROUNDS; round++) {
+            run(words);
+        }
+
+        double best = 0;
+        for (int round = 0; round < MEASURE_ROUNDS; round++) {
+            double perSecond = run(words);
+            best = Math.max(best, perSecond);
+            System.out.printf("trending record throughput (round %d): %.0f ops/s%n", round + 1, perSecond);
+        }
+        System.out.printf("trending record throughput (best): %.0f ops/s%n", best);
+    }
+
+    private double run(String[] words) {
+        AtomicLong now = new AtomicLong(Duration.ofDays(1).toMillis());
+        TrendingKeywordTracker tracker = new TrendingKeywordTracker(4, 2048, 100, 0, now::get);
+        Random random = new Random(7);
+
+        long started = System.nanoTime();
+        for (int i = 0; i < RECORDS; i++) {
+            // 시간도 함께 흘려 버킷 교체 비용까지 포함 (100만 건 = 약 2시간)
+            now.addAndGet(7);
+            tracker.record(words[(int) (Math.pow(random.nextDouble(), 3) * words.length)], 1);
+        }
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        // 측정 대상이 최적화로 사라지지 않도록 결과를 사용
+        assertThat(tracker.top(DAY, 10)).hasSize(10);
+        return RECORDS / seconds;
+    }
+}
@@ -0,0 +1,125 @@
+package com.ssafy.fiftyninesec.search.service;
+
+import com.ssafy.fiftyninesec.search.dto.TrendingKeywordDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.ssafy.fiftyninesec.search.service.TrendingKeywordTracker.Window.DAY;
+import static com.ssafy.fiftyninesec.search.service.TrendingKeywordTracker.Window.HOUR;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 인기 검색어 추적기의 정확도(상위 키워드와 순서, 추정 오차), 구간 이동 검증 (처리량은 TrendingKeywordTrackerBenchmark)
+class TrendingKeywordTrackerTest {
+
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 2048;
+    private static final int HOT_KEYWORDS = 20;
+    private static final int COLD_KEYWORDS = 100_000;
+
+    private final AtomicLong now = new AtomicLong(Duration.ofDays(1).toMillis());
+
+    private TrendingKeywordTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new TrendingKeywordTracker(SKETCH_DEPTH, SKETCH_WIDTH, 100, 0, now::get);
+    }
+
+    @Test
+    void 드문_키워드가_많아도_상위_키워드와_검색_수를_오차_범위_안에서_찾는다() {
+        Map<String, Long> actual = new HashMap<>();
+        Random random = new Random(42);
+
+        // 상위 키워드 20개(900씩 차이) 사이에 드문 키워드 10만 종류를 섞어 수집 주기별로 반영
+        List<String> stream = new ArrayList<>();
+        for (int i = 0; i < HOT_KEYWORDS; i++) {
+            for (int j = 0; j < 20_000 - i * 900; j++) {
+                stream.add("hot-" + i);
+            }
+        }
+        for (int i = 0; i < 200_000; i++) {
+            stream.add("cold-" + random.nextInt(COLD_KEYWORDS));
+        }
+        Collections.shuffle(stream, random);
+
+        for (int from = 0; from < stream.size(); from += 1000) {
+            Map<String, Integer> counts = new HashMap<>();
+            for (String word : stream.subList(from, Math.min(from + 1000, stream.size()))) {
+                counts.merge(word, 1, Integer::sum);
+                actual.merge(word, 1L, Long::sum);
+            }
+            tracker.record(counts);
+        }
+
+        List<TrendingKeywordDto> top = tracker.top(HOUR, 10);
+
+        assertThat(top).extracting(TrendingKeywordDto::getKeyword)
+                .containsExactly("hot-0", "hot-1", "hot-2", "hot-3", "hot-4", "hot-5", "hot-6", "hot-7", "hot-8", "hot-9");
+        long maxError = 2L * stream.size() / SKETCH_WIDTH;
+        for (TrendingKeywordDto keyword : top) {
+            long expected = actual.get(keyword.getKeyword());
+            assertThat(keyword.getCount()).isBetween(expected, expected + maxError);
+        }
+    }
+
+    @Test
+    void 한_시간이_지난_검색은_1시간_구간에서_빠지고_24시간_구간에는_남는다() {
+        tracker.record("지난 이벤트", 50);
+        now.addAndGet(Duration.ofMinutes(30).toMillis());
+        tracker.record("최근 이벤트", 10);
+
+        assertThat(tracker.top(HOUR, 10)).extracting(TrendingKeywordDto::getKeyword)
+                .containsExactly("지난 이벤트", "최근 이벤트");
+
+        now.addAndGet(Duration.ofMinutes(35).toMillis());
+
+        assertThat(tracker.top(HOUR, 10)).extracting(TrendingKeywordDto::getKeyword)
+                .containsExactly("최근 이벤트");
+        assertThat(tracker.top(DAY, 10)).extracting(TrendingKeywordDto::getKeyword)
+                .containsExactly("지난 이벤트", "최근 이벤트");
+
+        now.addAndGet(Duration.ofHours(24).toMillis());
+
+        assertThat(tracker.top(DAY, 10)).isEmpty();
+    }
+
+    @Test
+    void 시간이_흐르는_중에_키워드_100만_건을_반영해도_상위_키워드와_순서를_찾는다() {
+        Map<String, Long> actual = new HashMap<>();
+        Random random = new Random(7);
+        String[] words = new String[COLD_KEYWORDS];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = "keyword-" + i;
+        }
+
+        // 앞쪽 키워드일수록 많이 나오는 분포 (keyword-0 이 약 2%, keyword-9 가 약 0.16%)
+        int records = 1_000_000;
+        for (int i = 0; i < records; i++) {
+            // 시간도 함께 흘려 버킷 교체를 거치게 한다 (100만 건 = 약 2시간)
+            now.addAndGet(7);
+            String word = words[(int) (Math.pow(random.nextDouble(), 3) * words.length)];
+            tracker.record(word, 1);
+            actual.merge(word, 1L, Long::sum);
+        }
+
+        List<String> expectedTop = actual.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(10)
+                .map(Map.Entry::getKey)
+                .toList();
+        List<TrendingKeywordDto> top = tracker.top(DAY, 10);
+
+        assertThat(expectedTop).containsExactly("keyword-0", "keyword-1", "keyword-2", "keyword-3", "keyword-4",
+                "keyword-5", "keyword-6", "keyword-7", "keyword-8", "keyword-9");
+        assertThat(top).extracting(TrendingKeywordDto::getKeyword).containsExactlyElementsOf(expectedTop);
+        long maxError = 2L * records / SKETCH_WIDTH;
+        for (TrendingKeywordDto keyword : top) {
+            long expected = actual.get(keyword.getKeyword());
+            assertThat(keyword.getCount()).isBetween(expected, expected + maxError);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.ssafy.fiftyninesec.solution.service;
+
+import com.ssafy.fiftyninesec.solution.repository.EventRoomRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.ssafy.fiftyninesec.global.constants.RedisConstants.POPULAR_ROOMS_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+// 인기 순위 ZSET 의 커서 페이지가 오프셋 페이지와 같은 순서인지 실제 Redis(Testcontainers)로 검증
+@Testcontainers(disabledWithoutDocker = true)
+class PopularRoomIndexTest {
+
+    private static final int ROOMS = 25;
+    private static final int PAGE_SIZE = 4;
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private PopularRoomIndex popularRoomIndex;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.delete(POPULAR_ROOMS_KEY);
+        popularRoomIndex = new PopularRoomIndex(redisTemplate, mock(EventRoomRepository.class));
+
+        // 같은 점수(동점)가 많도록 잠금해제 수를 0~4 로 배정
+        for (long roomId = 1; roomId <= ROOMS; roomId++) {
+            redisTemplate.opsForZSet().add(POPULAR_ROOMS_KEY, String.valueOf(roomId), roomId % 5);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void 커서로_끝까지_내려간_순서가_오프셋_페이지_순서와_같다() {
+        List<String> byOffset = new ArrayList<>();
+        for (int page = 0; page * PAGE_SIZE < ROOMS; page++) {
+            popularRoomIndex.range(page, PAGE_SIZE).forEach(entry -> byOffset.add(entry.getValue()));
+        }
+
+        List<String> byCursor = new ArrayList<>();
+        List<TypedTuple<String>> entries = popularRoomIndex.first(PAGE_SIZE);
+        while (!entries.isEmpty()) {
+            entries.forEach(entry -> byCursor.add(entry.getValue()));
+            TypedTuple<String> last = entries.get(entries.size() - 1);
+            entries = popularRoomIndex.rangeAfter(last.getScore().longValue(), Long.parseLong(last.getValue()), PAGE_SIZE);
+        }
+
+        assertThat(byCursor).hasSize(ROOMS).containsExactlyElementsOf(byOffset);
+    }
+
+    @Test
+    void 커서_방의_점수가_바뀌어도_원래_자리_다음부터_이어서_읽는다() {
+        List<String> order = new ArrayList<>();
+        popularRoomIndex.range(0, ROOMS).forEach(entry -> order.add(entry.getValue()));
+        TypedTuple<String> cursor = popularRoomIndex.range(0, ROOMS).get(6);
+
+        // 커서 방이 그 사이 잠금해제되어 위로 올라감
+        popularRoomIndex.recordUnlock(Long.parseLong(cursor.getValue()));
+
+        List<TypedTuple<String>> next = popularRoomIndex.rangeAfter(
+                cursor.getScore().longValue(), Long.parseLong(cursor.getValue()), PAGE_SIZE);
+
+        assertThat(next).extracting(TypedTuple::getValue).containsExactlyElementsOf(order.subList(7, 7 + PAGE_SIZE));
+    }
+}
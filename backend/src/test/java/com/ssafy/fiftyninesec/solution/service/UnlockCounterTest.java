@@ -0,0 +1,103 @@
+package com.ssafy.fiftyninesec.solution.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+// DB 없이 UPDATE 증가분을 합산해 동시 잠금해제 수가 정확히 반영되는지 검증
+class UnlockCounterTest {
+
+    private static final int THREADS = 64;
+    private static final int UNLOCKS_PER_THREAD = 10_000;
+
+    private final Map<Long, Long> flushedByRoom = new ConcurrentHashMap<>();
+
+    private JdbcTemplate jdbcTemplate;
+    private UnlockCounter unlockCounter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> args = invocation.getArgument(1);
+            for (Object[] arg : args) {
+                flushedByRoom.merge((Long) arg[1], (Long) arg[0], Long::sum);
+            }
+            return new int[args.size()];
+        });
+        unlockCounter = new UnlockCounter(jdbcTemplate, mock(ApplicationEventPublisher.class));
+    }
+
+    @Test
+    void 스레드_64개가_동시에_잠금해제해도_증가분을_잃지_않는다() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        // 증가와 동시에 flush 도 계속 돌려 sumThenReset 경합까지 검증
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                unlockCounter.flush();
+            }
+        });
+        flusher.start();
+
+        for (int t = 0; t < THREADS; t++) {
+            long roomId = t % 2 == 0 ? 1L : 2L;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < UNLOCKS_PER_THREAD; i++) {
+                        unlockCounter.increment(roomId);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        running.set(false);
+        flusher.join();
+        unlockCounter.flush();
+        executor.shutdown();
+
+        long expectedPerRoom = (long) THREADS / 2 * UNLOCKS_PER_THREAD;
+        assertThat(flushedByRoom.get(1L)).isEqualTo(expectedPerRoom);
+        assertThat(flushedByRoom.get(2L)).isEqualTo(expectedPerRoom);
+        assertThat(unlockCounter.pending(1L)).isZero();
+    }
+
+    @Test
+    void 반영에_실패한_증가분은_다음_flush_까지_남아_있다() {
+        for (int i = 0; i < 5; i++) {
+            unlockCounter.increment(1L);
+        }
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new RuntimeException("db down"));
+
+        unlockCounter.flush();
+
+        assertThat(flushedByRoom).isEmpty();
+        assertThat(unlockCounter.pending(1L)).isEqualTo(5);
+    }
+}